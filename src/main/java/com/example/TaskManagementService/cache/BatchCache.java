@@ -0,0 +1,21 @@
+package com.example.TaskManagementService.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Optional capability of a {@link org.springframework.cache.Cache} that can read and
+ * write many entries in a single round trip instead of one call per key.
+ */
+public interface BatchCache {
+
+    /**
+     * Looks up all keys at once. Keys without a cached value are absent from the result.
+     */
+    Map<Object, Object> getAll(Collection<?> keys);
+
+    /**
+     * Stores all entries at once, applying the cache's configured time-to-live.
+     */
+    void putAll(Map<?, ?> entries);
+}
@@ -0,0 +1,88 @@
+package com.example.TaskManagementService.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Multi-key reads and writes against a named cache.
+ *
+ * Uses a single round trip when the cache implements {@link BatchCache} and falls back
+ * to per-key calls otherwise. Cache failures are logged and treated as misses so that
+ * callers can always load from the database instead.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheBatchOperations {
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    public <T> Map<Object, T> getAll(String cacheName, Collection<?> keys, Class<T> type) {
+        Cache cache = resolveCache(cacheName);
+        if (cache == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Object, Object> found;
+        try {
+            found = cache instanceof BatchCache batchCache
+                    ? batchCache.getAll(keys)
+                    : getOneByOne(cache, keys);
+        } catch (RuntimeException ex) {
+            log.warn("Batch lookup on cache '{}' failed, treating {} keys as misses", cacheName, keys.size(), ex);
+            return Collections.emptyMap();
+        }
+
+        Map<Object, T> result = new LinkedHashMap<>();
+        found.forEach((key, value) -> {
+            if (type.isInstance(value)) {
+                result.put(key, type.cast(value));
+            }
+        });
+
+        log.debug("Batch lookup on cache '{}': {} of {} keys found", cacheName, result.size(), keys.size());
+        return result;
+    }
+
+    public void putAll(String cacheName, Map<?, ?> entries) {
+        Cache cache = resolveCache(cacheName);
+        if (cache == null || entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (cache instanceof BatchCache batchCache) {
+                batchCache.putAll(entries);
+            } else {
+                entries.forEach(cache::put);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Batch write to cache '{}' failed for {} entries", cacheName, entries.size(), ex);
+        }
+    }
+
+    private Map<Object, Object> getOneByOne(Cache cache, Collection<?> keys) {
+        Map<Object, Object> found = new LinkedHashMap<>();
+        for (Object key : keys) {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                found.put(key, wrapper.get());
+            }
+        }
+        return found;
+    }
+
+    private Cache resolveCache(String cacheName) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        return cacheManager != null ? cacheManager.getCache(cacheName) : null;
+    }
+}
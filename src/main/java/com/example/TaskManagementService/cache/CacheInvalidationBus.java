@@ -0,0 +1,93 @@
+package com.example.TaskManagementService.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Broadcasts local-cache invalidations to every node over Redis pub/sub and applies
+ * the ones received from other nodes.
+ *
+ * Delivery is best effort: a node that misses a message keeps its stale L1 entry until
+ * the entry's local expiry, which is why L1 expiries are kept much shorter than Redis TTLs.
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String channel;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void register(TwoTierCache cache) {
+        caches.put(cache.getName(), cache);
+    }
+
+    public void publishEvict(String cacheName, Collection<String> keys) {
+        publish(new Invalidation(nodeId, cacheName, List.copyOf(keys)));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(new Invalidation(nodeId, cacheName, null));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Invalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), Invalidation.class);
+        } catch (IOException ex) {
+            log.warn("Ignoring malformed cache invalidation message", ex);
+            return;
+        }
+
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+
+        TwoTierCache cache = caches.get(invalidation.cache());
+        if (cache == null) {
+            return;
+        }
+
+        if (invalidation.keys() == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(invalidation.keys());
+        }
+    }
+
+    private void publish(Invalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(invalidation));
+        } catch (Exception ex) {
+            // Other nodes fall back to L1 expiry; the write itself has already succeeded
+            log.warn("Failed to broadcast invalidation for cache '{}'", invalidation.cache(), ex);
+        }
+    }
+
+    /**
+     * Wire format of an invalidation. A null key list clears the whole cache.
+     */
+    record Invalidation(String origin, String cache, List<String> keys) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.TaskManagementService.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Evicts every cache entry tagged with any of the given tags.
+ *
+ * Inside a transaction the eviction runs after commit, so a concurrent read cannot
+ * re-cache the old state between the eviction and the commit. Without a tag index
+ * (e.g. caching disabled) this is a no-op.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidator {
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final ObjectProvider<CacheTagIndex> tagIndexProvider;
+
+    public void invalidateTags(Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictTagged(tags);
+                }
+            });
+        } else {
+            evictTagged(tags);
+        }
+    }
+
+    private void evictTagged(Collection<String> tags) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        CacheTagIndex tagIndex = tagIndexProvider.getIfAvailable();
+        if (cacheManager == null || tagIndex == null) {
+            return;
+        }
+
+        try {
+            Map<String, Set<Object>> tagged = tagIndex.removeTagged(tags);
+            tagged.forEach((cacheName, keys) -> {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache != null) {
+                    keys.forEach(cache::evict);
+                }
+            });
+            log.debug("Invalidated tags {}: {}", tags, tagged);
+        } catch (RuntimeException ex) {
+            // Affected entries stay until their TTL; the write itself has already been committed
+            log.warn("Failed to invalidate cache tags {}", tags, ex);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.TaskManagementService.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records which cache entries carry which tags, so that a write can evict exactly
+ * the entries that depend on the entity it changed.
+ */
+public interface CacheTagIndex {
+
+    /**
+     * Associates the entry {@code cacheName/key} with each of the given tags.
+     */
+    void tag(String cacheName, Object key, Collection<String> tags);
+
+    /**
+     * Removes the given tags and returns the entries that carried them, grouped by cache name.
+     */
+    Map<String, Set<Object>> removeTagged(Collection<String> tags);
+}
@@ -0,0 +1,59 @@
+package com.example.TaskManagementService.cache;
+
+import com.example.TaskManagementService.dto.ProjectResponse;
+import com.example.TaskManagementService.dto.TaskResponse;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Tag vocabulary for application caches and the rules that derive an entry's tags from its value.
+ *
+ * A task entry depends on its task and its project's details (it shows the project name).
+ * A project entry depends on the project's details and on its set of tasks (task count),
+ * so adding a task evicts the project without touching the project's other tasks.
+ * A user's project list depends on that user plus everything its projects depend on.
+ */
+public final class CacheTags {
+
+    private CacheTags() {
+    }
+
+    public static String task(Long taskId) {
+        return "task:" + taskId;
+    }
+
+    public static String project(Long projectId) {
+        return "project:" + projectId;
+    }
+
+    public static String projectTasks(Long projectId) {
+        return "project-tasks:" + projectId;
+    }
+
+    public static String user(String email) {
+        return "user:" + email;
+    }
+
+    public static Set<String> forEntry(Object key, Object value) {
+        Set<String> tags = new LinkedHashSet<>();
+
+        if (value instanceof TaskResponse task) {
+            tags.add(task(task.getId()));
+            tags.add(project(task.getProjectId()));
+        } else if (value instanceof ProjectResponse project) {
+            tags.add(project(project.getId()));
+            tags.add(projectTasks(project.getId()));
+        } else if (value instanceof Collection<?> collection) {
+            collection.forEach(element -> tags.addAll(forEntry(null, element)));
+        }
+
+        // Per-user lists are keyed 'user:<email>', which is already that user's tag
+        if (key instanceof String stringKey && stringKey.startsWith("user:")) {
+            tags.add(stringKey);
+        }
+
+        return tags;
+    }
+}
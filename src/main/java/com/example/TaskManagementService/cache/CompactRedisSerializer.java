@@ -0,0 +1,127 @@
+package com.example.TaskManagementService.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Redis value serializer that writes Smile (binary JSON) and gzips payloads above a size
+ * threshold.
+ *
+ * Reads detect the format from the leading bytes (gzip magic, Smile header, otherwise
+ * JSON), so entries written by the previous JSON serializer stay readable during a
+ * rollout and nodes can be switched back to JSON with {@link Format#JSON}.
+ * Smile back-references repeated property names and type ids, which removes most of
+ * the class-name overhead of default typing in lists.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    public enum Format { JSON, SMILE }
+
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+
+    private final Format format;
+    private final int compressionThreshold;
+    private final ObjectMapper smileMapper;
+    private final GenericJackson2JsonRedisSerializer jsonSerializer;
+
+    /**
+     * @param jsonMapper           mapper configured for JSON values; its modules and typing are reused for Smile
+     * @param compressionThreshold payloads larger than this many bytes are gzipped, 0 disables compression
+     */
+    public CompactRedisSerializer(ObjectMapper jsonMapper, Format format, int compressionThreshold) {
+        this.format = format;
+        this.compressionThreshold = compressionThreshold;
+        this.jsonSerializer = new GenericJackson2JsonRedisSerializer(jsonMapper);
+
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        this.smileMapper = jsonMapper.copyWith(smileFactory);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] encoded;
+        if (format == Format.SMILE) {
+            try {
+                encoded = smileMapper.writeValueAsBytes(value);
+            } catch (IOException ex) {
+                throw new SerializationException("Could not write Smile: " + ex.getMessage(), ex);
+            }
+        } else {
+            encoded = jsonSerializer.serialize(value);
+        }
+
+        return compressionThreshold > 0 && encoded.length > compressionThreshold ? gzip(encoded) : encoded;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        byte[] decoded = isGzip(bytes) ? gunzip(bytes) : bytes;
+
+        if (startsWith(decoded, SMILE_HEADER)) {
+            try {
+                return smileMapper.readValue(decoded, Object.class);
+            } catch (IOException ex) {
+                throw new SerializationException("Could not read Smile: " + ex.getMessage(), ex);
+            }
+        }
+        return jsonSerializer.deserialize(decoded);
+    }
+
+    private static boolean isGzip(byte[] bytes) {
+        return bytes.length > 2
+                && (bytes[0] & 0xff) == GZIP_MAGIC_FIRST
+                && (bytes[1] & 0xff) == GZIP_MAGIC_SECOND;
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException ex) {
+            throw new SerializationException("Could not compress cache value", ex);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzip.readAllBytes();
+        } catch (IOException ex) {
+            throw new SerializationException("Could not decompress cache value", ex);
+        }
+    }
+}
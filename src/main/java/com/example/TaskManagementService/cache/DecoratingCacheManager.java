@@ -0,0 +1,57 @@
+package com.example.TaskManagementService.cache;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * CacheManager that wraps every cache of a delegate manager with a decorator.
+ * Decorated instances are created once per cache name and reused.
+ */
+public class DecoratingCacheManager implements CacheManager, InitializingBean {
+
+    private final CacheManager delegate;
+    private final UnaryOperator<Cache> decorator;
+    private final ConcurrentMap<String, Cache> decoratedCaches = new ConcurrentHashMap<>();
+
+    public DecoratingCacheManager(CacheManager delegate, UnaryOperator<Cache> decorator) {
+        this.delegate = delegate;
+        this.decorator = decorator;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache decorated = decoratedCaches.get(name);
+        if (decorated != null) {
+            return decorated;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+
+        return decoratedCaches.computeIfAbsent(name, cacheName -> decorator.apply(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (delegate instanceof InitializingBean initializingBean) {
+            initializingBean.afterPropertiesSet();
+        }
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+}
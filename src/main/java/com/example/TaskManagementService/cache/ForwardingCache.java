@@ -0,0 +1,121 @@
+package com.example.TaskManagementService.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Base class for cache decorators. Every operation is forwarded to the wrapped cache;
+ * subclasses override only what they change. Batch operations use the delegate's
+ * {@link BatchCache} support when it has it and fall back to per-key calls otherwise,
+ * so stacking decorators never loses the single round trip of the innermost cache.
+ */
+public abstract class ForwardingCache implements Cache, BatchCache {
+
+    private final Cache delegate;
+
+    protected ForwardingCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Walks a decorator chain and returns the first cache of the given type, or null.
+     */
+    public static <T> T unwrap(Cache cache, Class<T> type) {
+        Cache current = cache;
+        while (current != null) {
+            if (type.isInstance(current)) {
+                return type.cast(current);
+            }
+            current = current instanceof ForwardingCache forwarding ? forwarding.getDelegate() : null;
+        }
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        if (delegate instanceof BatchCache batchCache) {
+            return batchCache.getAll(keys);
+        }
+
+        Map<Object, Object> found = new LinkedHashMap<>();
+        for (Object key : keys) {
+            ValueWrapper wrapper = delegate.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                found.put(key, wrapper.get());
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        if (delegate instanceof BatchCache batchCache) {
+            batchCache.putAll(entries);
+        } else {
+            entries.forEach(delegate::put);
+        }
+    }
+}
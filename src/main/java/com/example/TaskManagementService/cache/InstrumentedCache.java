@@ -0,0 +1,248 @@
+package com.example.TaskManagementService.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts hits, misses, puts and evictions of a cache, times how long misses take to load,
+ * and samples key popularity.
+ *
+ * With {@code @Cacheable} the load happens between a miss and the put of the same key on
+ * the same thread, so the load time is measured from the miss to that put. Key popularity
+ * is sampled (1 in {@value #KEY_SAMPLE_RATE} lookups) into a bounded Caffeine map whose
+ * frequency-based eviction keeps the hottest keys.
+ */
+public class InstrumentedCache extends ForwardingCache {
+
+    public static final int KEY_SAMPLE_RATE = 8;
+    private static final int TRACKED_KEYS = 1000;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Timer loadTimer;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LongAdder> keySamples = Caffeine.newBuilder()
+            .maximumSize(TRACKED_KEYS)
+            .build();
+    private final ThreadLocal<PendingLoad> pendingLoad = new ThreadLocal<>();
+
+    public InstrumentedCache(Cache delegate, MeterRegistry registry) {
+        super(delegate);
+        this.loadTimer = Timer.builder("cache.load.duration")
+                .description("Time from a cache miss until the loaded value is stored")
+                .tag("cache", delegate.getName())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        new Metrics(this).bindTo(registry);
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        sampleKey(key);
+        ValueWrapper wrapper = super.get(key);
+        if (wrapper != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            pendingLoad.set(new PendingLoad(key, System.nanoTime()));
+        }
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        sampleKey(key);
+        T value = super.get(key, type);
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        sampleKey(key);
+        boolean[] loaded = {false};
+        T value = super.get(key, () -> {
+            loaded[0] = true;
+            long start = System.nanoTime();
+            try {
+                return valueLoader.call();
+            } finally {
+                loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+        if (loaded[0]) {
+            misses.increment();
+            puts.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        puts.increment();
+        recordLoad(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            puts.increment();
+        }
+        recordLoad(key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        evictions.increment();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = super.evictIfPresent(key);
+        if (evicted) {
+            evictions.increment();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        evictions.increment();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = super.invalidate();
+        evictions.increment();
+        return invalidated;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        keys.forEach(this::sampleKey);
+        Map<Object, Object> found = super.getAll(keys);
+        hits.add(found.size());
+        misses.add(keys.size() - found.size());
+        return found;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        super.putAll(entries);
+        puts.add(entries.size());
+    }
+
+    public Statistics getStatistics() {
+        Map<Double, Double> loadMillis = new LinkedHashMap<>();
+        for (ValueAtPercentile percentile : loadTimer.takeSnapshot().percentileValues()) {
+            loadMillis.put(percentile.percentile(), percentile.value(TimeUnit.MILLISECONDS));
+        }
+        return new Statistics(hits.sum(), misses.sum(), puts.sum(), evictions.sum(), loadTimer.count(), loadMillis);
+    }
+
+    /**
+     * Most frequently requested keys among the sampled lookups, hottest first.
+     * Counts are sample counts; multiply by {@link #KEY_SAMPLE_RATE} for an estimate.
+     */
+    public List<KeySample> getHotKeys(int limit) {
+        return keySamples.asMap().entrySet().stream()
+                .map(entry -> new KeySample(entry.getKey(), entry.getValue().sum()))
+                .sorted(Comparator.comparingLong(KeySample::samples).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private void sampleKey(Object key) {
+        if (ThreadLocalRandom.current().nextInt(KEY_SAMPLE_RATE) == 0) {
+            keySamples.get(String.valueOf(key), k -> new LongAdder()).increment();
+        }
+    }
+
+    private void recordLoad(Object key) {
+        PendingLoad pending = pendingLoad.get();
+        if (pending != null) {
+            pendingLoad.remove();
+            if (pending.key().equals(key)) {
+                loadTimer.record(Duration.ofNanos(System.nanoTime() - pending.startNanos()));
+            }
+        }
+    }
+
+    private record PendingLoad(Object key, long startNanos) {
+    }
+
+    public record KeySample(String key, long samples) {
+    }
+
+    public record Statistics(long hits, long misses, long puts, long evictions,
+                             long loads, Map<Double, Double> loadMillisPercentiles) {
+
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    /**
+     * Publishes the counters under Micrometer's standard cache meter names (cache.gets, cache.puts, ...).
+     */
+    private static class Metrics extends CacheMeterBinder<InstrumentedCache> {
+
+        Metrics(InstrumentedCache cache) {
+            super(cache, cache.getName(), List.<Tag>of());
+        }
+
+        @Override
+        protected Long size() {
+            return null;
+        }
+
+        @Override
+        protected long hitCount() {
+            return getCache() != null ? getCache().hits.sum() : 0;
+        }
+
+        @Override
+        protected Long missCount() {
+            return getCache() != null ? getCache().misses.sum() : 0L;
+        }
+
+        @Override
+        protected Long evictionCount() {
+            return getCache() != null ? getCache().evictions.sum() : 0L;
+        }
+
+        @Override
+        protected long putCount() {
+            return getCache() != null ? getCache().puts.sum() : 0;
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.TaskManagementService.cache;
+
+/**
+ * Mutual exclusion for loading one cache key across nodes.
+ */
+public interface LoadLock {
+
+    /**
+     * Tries to take the lock without waiting.
+     *
+     * @return an ownership token to pass to {@link #release}, or null if another node holds the lock
+     */
+    String tryAcquire(String cacheName, Object key);
+
+    void release(String cacheName, Object key, String token);
+}
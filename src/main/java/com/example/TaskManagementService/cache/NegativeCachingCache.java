@@ -0,0 +1,155 @@
+package com.example.TaskManagementService.cache;
+
+import com.example.TaskManagementService.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers lookups that found nothing, in a separate short-TTL store, so repeated
+ * requests for deleted or non-existent entities don't reach the database.
+ *
+ * Applies to {@code @Cacheable(sync = true)} loads: a loader that returns null or fails
+ * with {@link ResourceNotFoundException} is recorded under its key, and until the record
+ * expires the loader is skipped and the same outcome is replayed. Null results are never
+ * written to the main cache. A put or eviction of a key drops its record, so creating
+ * the entity makes it visible immediately. Batch puts don't; they store values read from
+ * the database, and creating those entities already dropped their records.
+ */
+@Slf4j
+public class NegativeCachingCache extends ForwardingCache {
+
+    /** Name of the shared store holding the records of all caches. */
+    public static final String STORE_NAME = "not-found";
+
+    // Recorded for null results; not-found failures record the exception message
+    private static final String NULL_RESULT = "";
+
+    private final Cache store;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    public NegativeCachingCache(Cache delegate, Cache store) {
+        super(delegate);
+        this.store = store;
+    }
+
+    public record Statistics(long hits, long stores) {
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return super.get(key, () -> {
+            String recorded = lookup(key);
+            if (recorded != null) {
+                hits.increment();
+                if (NULL_RESULT.equals(recorded)) {
+                    return null;
+                }
+                throw new ResourceNotFoundException(recorded);
+            }
+
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception ex) {
+                ResourceNotFoundException notFound = findNotFound(ex);
+                if (notFound != null) {
+                    record(key, notFound.getMessage() != null ? notFound.getMessage() : "Not found");
+                }
+                throw ex;
+            }
+            if (value == null) {
+                record(key, NULL_RESULT);
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        forget(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        forget(key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        forget(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = super.evictIfPresent(key);
+        forget(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        // Records of this cache are not enumerable in the shared store; they expire on their own
+        super.clear();
+    }
+
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), stores.sum());
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.negative.hits", hits, LongAdder::doubleValue)
+                .description("Lookups answered from a not-found record instead of the database")
+                .tag("cache", getName())
+                .register(registry);
+        FunctionCounter.builder("cache.negative.stores", stores, LongAdder::doubleValue)
+                .description("Not-found records written")
+                .tag("cache", getName())
+                .register(registry);
+    }
+
+    private String lookup(Object key) {
+        try {
+            ValueWrapper wrapper = store.get(storeKey(key));
+            return wrapper != null ? (String) wrapper.get() : null;
+        } catch (RuntimeException ex) {
+            log.warn("Not-found store unavailable for cache '{}'", getName(), ex);
+            return null;
+        }
+    }
+
+    private void record(Object key, String outcome) {
+        try {
+            store.put(storeKey(key), outcome);
+            stores.increment();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to record not-found lookup for cache '{}'", getName(), ex);
+        }
+    }
+
+    private void forget(Object key) {
+        store.evict(storeKey(key));
+    }
+
+    private String storeKey(Object key) {
+        return getName() + ":" + key;
+    }
+
+    private static ResourceNotFoundException findNotFound(Throwable ex) {
+        for (Throwable current = ex; current != null; current = current.getCause()) {
+            if (current instanceof ResourceNotFoundException notFound) {
+                return notFound;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.TaskManagementService.cache;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wraps a {@link RedisCache} so that batch lookups use a single MGET and batch
+ * writes are pipelined. Single-key operations are delegated unchanged.
+ */
+public class RedisBatchCache extends ForwardingCache {
+
+    private final RedisCache redisCache;
+    private final RedisConnectionFactory connectionFactory;
+
+    public RedisBatchCache(RedisCache redisCache, RedisConnectionFactory connectionFactory) {
+        super(redisCache);
+        this.redisCache = redisCache;
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Object> keyList = new ArrayList<>(keys);
+        byte[][] rawKeys = keyList.stream()
+                .map(this::serializeKey)
+                .toArray(byte[][]::new);
+
+        List<byte[]> rawValues;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            rawValues = connection.stringCommands().mGet(rawKeys);
+        }
+
+        Map<Object, Object> result = new LinkedHashMap<>();
+        if (rawValues == null) {
+            return result;
+        }
+
+        for (int i = 0; i < keyList.size(); i++) {
+            byte[] rawValue = rawValues.get(i);
+            if (rawValue == null) {
+                continue;
+            }
+
+            Object value = getConfiguration().getValueSerializationPair().read(ByteBuffer.wrap(rawValue));
+            if (value != null && !(value instanceof NullValue)) {
+                result.put(keyList.get(i), value);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            entries.forEach((key, value) -> {
+                if (value != null) {
+                    connection.stringCommands().set(
+                            serializeKey(key),
+                            serializeValue(value),
+                            expirationFor(key, value),
+                            RedisStringCommands.SetOption.upsert()
+                    );
+                }
+            });
+            connection.closePipeline();
+        }
+    }
+
+    /**
+     * Approximates the number of entries and their payload size by scanning at most
+     * {@code scanLimit} keys of this cache and sizing the first {@code sampleSize} of them.
+     * Uses SCAN and STRLEN only, so it never blocks Redis like KEYS would.
+     */
+    public Footprint estimateFootprint(int scanLimit, int sampleSize) {
+        String pattern = getConfiguration().getKeyPrefixFor(getName()) + "*";
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+
+        long entries = 0;
+        long sampledBytes = 0;
+        int sampled = 0;
+
+        try (RedisConnection connection = connectionFactory.getConnection();
+             Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext() && entries < scanLimit) {
+                byte[] key = cursor.next();
+                entries++;
+                if (sampled < sampleSize) {
+                    Long length = connection.stringCommands().strLen(key);
+                    if (length != null) {
+                        sampledBytes += length;
+                        sampled++;
+                    }
+                }
+            }
+        }
+
+        long averageBytes = sampled == 0 ? 0 : sampledBytes / sampled;
+        return new Footprint(entries, entries >= scanLimit, averageBytes, averageBytes * entries);
+    }
+
+    /**
+     * Deletes every entry whose cache key starts with {@code keyPrefix} (all entries when empty).
+     * Keys are found with SCAN and each batch of at most {@code batchSize} is removed with a
+     * single UNLINK, which frees memory off the main thread, so Redis keeps serving other clients
+     * in between. Each deleted batch is reported to {@code listener}; the pause between batches
+     * bounds the extra load. Stops early, keeping what was deleted, when the thread is interrupted.
+     *
+     * @return the number of deleted entries
+     */
+    public long purge(String keyPrefix, int batchSize, Duration pauseBetweenBatches, PurgeListener listener) {
+        String pattern = escapeGlob(getConfiguration().getKeyPrefixFor(getName()) + keyPrefix) + "*";
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+
+        long scanned = 0;
+        long deleted = 0;
+        List<byte[]> batch = new ArrayList<>(batchSize);
+
+        try (RedisConnection connection = connectionFactory.getConnection();
+             Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext() && !Thread.currentThread().isInterrupted()) {
+                batch.add(cursor.next());
+                scanned++;
+                if (batch.size() == batchSize || !cursor.hasNext()) {
+                    deleted += unlink(connection, batch);
+                    listener.onBatch(scanned, deleted, toCacheKeys(batch));
+                    batch.clear();
+                    pause(pauseBetweenBatches);
+                }
+            }
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Progress callback of {@link #purge}; {@code deletedKeys} are the cache keys of the latest batch.
+     */
+    @FunctionalInterface
+    public interface PurgeListener {
+        void onBatch(long scanned, long deleted, List<String> deletedKeys);
+    }
+
+    /**
+     * Result of {@link #estimateFootprint}. {@code truncated} means the cache has at least {@code entries} keys.
+     */
+    public record Footprint(long entries, boolean truncated, long averageValueBytes, long estimatedBytes) {
+    }
+
+    private long unlink(RedisConnection connection, List<byte[]> keys) {
+        Long unlinked = connection.keyCommands().unlink(keys.toArray(byte[][]::new));
+        return unlinked != null ? unlinked : 0;
+    }
+
+    private List<String> toCacheKeys(List<byte[]> rawKeys) {
+        int prefixLength = getConfiguration().getKeyPrefixFor(getName()).length();
+        return rawKeys.stream()
+                .map(rawKey -> String.valueOf(getConfiguration().getKeySerializationPair().read(ByteBuffer.wrap(rawKey))))
+                .map(cacheKey -> cacheKey.substring(prefixLength))
+                .toList();
+    }
+
+    private static void pause(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // SCAN MATCH uses glob syntax; cache keys may contain its special characters
+    private static String escapeGlob(String value) {
+        return value.replaceAll("([\\\\*?\\[\\]])", "\\\\$1");
+    }
+
+    private RedisCacheConfiguration getConfiguration() {
+        return redisCache.getCacheConfiguration();
+    }
+
+    private Expiration expirationFor(Object key, Object value) {
+        Duration ttl = getConfiguration().getTtlFunction().getTimeToLive(key, value);
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return Expiration.persistent();
+        }
+        return Expiration.from(ttl);
+    }
+
+    // Mirrors RedisCache#createCacheKey so batch entries are interchangeable with single-key ones
+    private byte[] serializeKey(Object key) {
+        String convertedKey = convertKey(key);
+        String cacheKey = getConfiguration().usePrefix()
+                ? getConfiguration().getKeyPrefixFor(getName()) + convertedKey
+                : convertedKey;
+        return ByteUtils.getBytes(getConfiguration().getKeySerializationPair().write(cacheKey));
+    }
+
+    private byte[] serializeValue(Object value) {
+        return ByteUtils.getBytes(getConfiguration().getValueSerializationPair().write(value));
+    }
+
+    private String convertKey(Object key) {
+        if (key instanceof String stringKey) {
+            return stringKey;
+        }
+
+        ConversionService conversionService = getConfiguration().getConversionService();
+        if (conversionService.canConvert(key.getClass(), String.class)) {
+            String converted = conversionService.convert(key, String.class);
+            if (converted != null) {
+                return converted;
+            }
+        }
+
+        return key.toString();
+    }
+}
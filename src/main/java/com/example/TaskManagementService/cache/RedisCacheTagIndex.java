@@ -0,0 +1,79 @@
+package com.example.TaskManagementService.cache;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tag index shared by all nodes: one Redis set per tag holding {@code cacheName::key} members.
+ *
+ * Members are the string form of the cache key. That is enough to evict, because Redis
+ * and L1 keys are derived from the same string form. Tag sets expire after the longest
+ * cache TTL, so the sets of tags that are never invalidated do not grow forever.
+ */
+public class RedisCacheTagIndex implements CacheTagIndex {
+
+    private static final String TAG_PREFIX = "cache-tags::";
+    private static final String MEMBER_SEPARATOR = "::";
+
+    // Read and delete each tag set atomically so entries tagged concurrently are not lost
+    private static final RedisScript<List> POP_MEMBERS = new DefaultRedisScript<>(
+            "local members = {} " +
+            "for _, key in ipairs(KEYS) do " +
+            "  for _, member in ipairs(redis.call('SMEMBERS', key)) do table.insert(members, member) end " +
+            "  redis.call('DEL', key) " +
+            "end " +
+            "return members", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisCacheTagIndex(StringRedisTemplate redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void tag(String cacheName, Object key, Collection<String> tags) {
+        String member = cacheName + MEMBER_SEPARATOR + key;
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String tag : tags) {
+                stringConnection.sAdd(TAG_PREFIX + tag, member);
+                stringConnection.expire(TAG_PREFIX + tag, ttl.toSeconds());
+            }
+            return null;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Set<Object>> removeTagged(Collection<String> tags) {
+        List<String> tagKeys = tags.stream().map(tag -> TAG_PREFIX + tag).toList();
+        List<String> members = redisTemplate.execute(POP_MEMBERS, tagKeys);
+
+        Map<String, Set<Object>> entries = new HashMap<>();
+        if (members == null) {
+            return entries;
+        }
+
+        for (String member : members) {
+            int separator = member.indexOf(MEMBER_SEPARATOR);
+            if (separator > 0) {
+                entries.computeIfAbsent(member.substring(0, separator), name -> new HashSet<>())
+                        .add(member.substring(separator + MEMBER_SEPARATOR.length()));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.TaskManagementService.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker shared by everything that talks to Redis on the request path.
+ *
+ * While CLOSED it records the outcome of the last {@code windowSize} calls; calls slower
+ * than {@code slowCallDuration} count as failures. Once at least {@code minimumCalls}
+ * are recorded and the failure rate reaches the threshold it OPENs and rejects calls, so
+ * callers skip Redis instead of waiting on it. After {@code openDuration} it lets a few
+ * trial calls through (HALF_OPEN); if they all succeed it closes again and runs the
+ * registered recovery actions, otherwise it reopens.
+ */
+@Slf4j
+public class RedisCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    public record Settings(int windowSize,
+                           int minimumCalls,
+                           double failureRateThreshold,
+                           Duration slowCallDuration,
+                           Duration openDuration,
+                           int halfOpenTrialCalls) {
+    }
+
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+    private final Executor recoveryExecutor;
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int trialCallsPermitted;
+    private int trialCallsSucceeded;
+
+    private final List<Runnable> recoveryActions = new CopyOnWriteArrayList<>();
+    private final LongAdder rejectedCalls = new LongAdder();
+    private final AtomicLong lostInvalidations = new AtomicLong();
+
+    public RedisCircuitBreaker(Settings settings) {
+        this(settings, System::nanoTime, ForkJoinPool.commonPool());
+    }
+
+    RedisCircuitBreaker(Settings settings, LongSupplier nanoClock, Executor recoveryExecutor) {
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.recoveryExecutor = recoveryExecutor;
+        this.window = new boolean[settings.windowSize()];
+    }
+
+    /**
+     * Whether a call may go to Redis now. Every permitted call must be followed by
+     * {@link #onSuccess} or {@link #onError}.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < settings.openDuration().toNanos()) {
+                rejectedCalls.increment();
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialCallsPermitted = 0;
+            trialCallsSucceeded = 0;
+            log.info("Redis circuit half-open, probing with {} trial calls", settings.halfOpenTrialCalls());
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (trialCallsPermitted >= settings.halfOpenTrialCalls()) {
+                rejectedCalls.increment();
+                return false;
+            }
+            trialCallsPermitted++;
+        }
+        return true;
+    }
+
+    public void onSuccess(long durationNanos) {
+        record(durationNanos >= settings.slowCallDuration().toNanos());
+    }
+
+    public void onError(long durationNanos) {
+        record(true);
+    }
+
+    /**
+     * Registers an action to run, asynchronously, each time the circuit closes after being open.
+     */
+    public void onRecovery(Runnable action) {
+        recoveryActions.add(action);
+    }
+
+    /**
+     * Notes that an invalidation could not reach Redis, so entries may be stale after recovery.
+     */
+    public void recordLostInvalidation() {
+        lostInvalidations.incrementAndGet();
+    }
+
+    public long getLostInvalidations() {
+        return lostInvalidations.get();
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cache.redis.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("Redis circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(registry);
+        FunctionCounter.builder("cache.redis.circuit.rejected", rejectedCalls, LongAdder::doubleValue)
+                .description("Redis calls skipped because the circuit was open")
+                .register(registry);
+    }
+
+    private void record(boolean failed) {
+        boolean recovered = false;
+        synchronized (this) {
+            switch (state) {
+                case CLOSED -> {
+                    if (recordedCalls == window.length) {
+                        failedCalls -= window[windowIndex] ? 1 : 0;
+                    } else {
+                        recordedCalls++;
+                    }
+                    window[windowIndex] = failed;
+                    failedCalls += failed ? 1 : 0;
+                    windowIndex = (windowIndex + 1) % window.length;
+
+                    if (recordedCalls >= settings.minimumCalls()
+                            && (double) failedCalls / recordedCalls >= settings.failureRateThreshold()) {
+                        open();
+                    }
+                }
+                case HALF_OPEN -> {
+                    if (failed) {
+                        open();
+                    } else if (++trialCallsSucceeded >= settings.halfOpenTrialCalls()) {
+                        close();
+                        recovered = true;
+                    }
+                }
+                case OPEN -> {
+                    // Late result of a call permitted before the circuit opened
+                }
+            }
+        }
+
+        if (recovered) {
+            recoveryActions.forEach(action -> CompletableFuture.runAsync(action, recoveryExecutor).exceptionally(ex -> {
+                log.warn("Redis recovery action failed", ex);
+                return null;
+            }));
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = nanoClock.getAsLong();
+        log.warn("Redis circuit opened, bypassing Redis for {}", settings.openDuration());
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+        Arrays.fill(window, false);
+        log.info("Redis circuit closed");
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.TaskManagementService.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link LoadLock} backed by {@code SET NX PX}. The lease expires on its own if the
+ * holder dies, and release only deletes the key while it still holds the caller's token.
+ */
+public class RedisLoadLock implements LoadLock {
+
+    private static final String LOCK_PREFIX = "cache-load-lock::";
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lease;
+
+    public RedisLoadLock(StringRedisTemplate redisTemplate, Duration lease) {
+        this.redisTemplate = redisTemplate;
+        this.lease = lease;
+    }
+
+    @Override
+    public String tryAcquire(String cacheName, Object key) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, lease);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    @Override
+    public void release(String cacheName, Object key, String token) {
+        redisTemplate.execute(RELEASE, List.of(lockKey(cacheName, key)), token);
+    }
+
+    private static String lockKey(String cacheName, Object key) {
+        return LOCK_PREFIX + cacheName + "::" + key;
+    }
+}
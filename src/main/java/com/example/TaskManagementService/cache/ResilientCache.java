@@ -0,0 +1,195 @@
+package com.example.TaskManagementService.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.dao.DataAccessException;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Guards a Redis-backed cache with a {@link RedisCircuitBreaker}.
+ *
+ * Reads that fail, or are rejected while the circuit is open, are reported as misses,
+ * so callers load from the database (an L1 in front keeps serving what it holds).
+ * Writes and evictions that don't reach Redis are remembered and replayed once the
+ * circuit closes, since Redis may still hold the old value; past {@value #MAX_PENDING_EVICTIONS}
+ * keys, or when a clear or tag invalidation was lost, the whole cache is cleared instead.
+ * Only {@link DataAccessException}s count as Redis failures; anything else is rethrown.
+ */
+@Slf4j
+public class ResilientCache extends ForwardingCache {
+
+    static final int MAX_PENDING_EVICTIONS = 10_000;
+
+    private final RedisCircuitBreaker circuitBreaker;
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private volatile boolean clearPending;
+    private volatile long handledLostInvalidations;
+
+    public ResilientCache(Cache delegate, RedisCircuitBreaker circuitBreaker) {
+        super(delegate);
+        this.circuitBreaker = circuitBreaker;
+        this.handledLostInvalidations = circuitBreaker.getLostInvalidations();
+        circuitBreaker.onRecovery(this::replayLostWrites);
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return call(() -> super.get(key), null);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return call(() -> super.get(key, type), null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (!run(() -> super.put(key, value))) {
+            lost(key);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        boolean[] reached = {false};
+        ValueWrapper existing = call(() -> {
+            ValueWrapper result = super.putIfAbsent(key, value);
+            reached[0] = true;
+            return result;
+        }, null);
+        if (!reached[0]) {
+            lost(key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (!run(() -> super.evict(key))) {
+            lost(key);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        Boolean present = call(() -> super.evictIfPresent(key), null);
+        if (present == null) {
+            lost(key);
+            return false;
+        }
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        if (!run(super::clear)) {
+            clearPending = true;
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        Boolean invalidated = call(super::invalidate, null);
+        if (invalidated == null) {
+            clearPending = true;
+            return false;
+        }
+        return invalidated;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        return call(() -> super.getAll(keys), Map.of());
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        if (!run(() -> super.putAll(entries))) {
+            entries.keySet().forEach(this::lost);
+        }
+    }
+
+    int getPendingEvictions() {
+        return pendingEvictions.size();
+    }
+
+    private void lost(Object key) {
+        if (pendingEvictions.size() >= MAX_PENDING_EVICTIONS) {
+            clearPending = true;
+        } else {
+            pendingEvictions.add(key);
+        }
+    }
+
+    void replayLostWrites() {
+        long lostInvalidations = circuitBreaker.getLostInvalidations();
+        if (clearPending || lostInvalidations != handledLostInvalidations) {
+            log.info("Clearing cache '{}' after Redis recovery: invalidations were lost while it was unreachable", getName());
+            clearPending = false;
+            pendingEvictions.clear();
+            handledLostInvalidations = lostInvalidations;
+            clear();
+            return;
+        }
+
+        for (Object key : pendingEvictions) {
+            if (!run(() -> super.evict(key))) {
+                // Circuit opened again; the rest is replayed on the next recovery
+                return;
+            }
+            pendingEvictions.remove(key);
+        }
+    }
+
+    private boolean run(Runnable operation) {
+        return call(() -> {
+            operation.run();
+            return Boolean.TRUE;
+        }, Boolean.FALSE);
+    }
+
+    private <T> T call(Supplier<T> operation, T fallback) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return fallback;
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = operation.get();
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (DataAccessException ex) {
+            circuitBreaker.onError(System.nanoTime() - start);
+            log.debug("Redis call for cache '{}' failed, treating as unavailable", getName(), ex);
+            return fallback;
+        } catch (RuntimeException ex) {
+            // Redis answered; the failure is ours (e.g. serialization)
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            throw ex;
+        }
+    }
+}
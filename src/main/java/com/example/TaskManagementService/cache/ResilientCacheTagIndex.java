@@ -0,0 +1,62 @@
+package com.example.TaskManagementService.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Guards a Redis-backed {@link CacheTagIndex} with the shared {@link RedisCircuitBreaker}.
+ * Tagging is skipped while Redis is unavailable, which is harmless because the entries
+ * being tagged normally didn't reach Redis either. A tag invalidation that can't run is recorded
+ * as lost, so caches clear themselves once Redis recovers.
+ */
+@Slf4j
+public class ResilientCacheTagIndex implements CacheTagIndex {
+
+    private final CacheTagIndex delegate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public ResilientCacheTagIndex(CacheTagIndex delegate, RedisCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void tag(String cacheName, Object key, Collection<String> tags) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            delegate.tag(cacheName, key, tags);
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+        } catch (DataAccessException ex) {
+            circuitBreaker.onError(System.nanoTime() - start);
+            log.debug("Failed to tag entry of cache '{}'", cacheName, ex);
+        }
+    }
+
+    @Override
+    public Map<String, Set<Object>> removeTagged(Collection<String> tags) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            circuitBreaker.recordLostInvalidation();
+            return Map.of();
+        }
+
+        long start = System.nanoTime();
+        try {
+            Map<String, Set<Object>> tagged = delegate.removeTagged(tags);
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            return tagged;
+        } catch (DataAccessException ex) {
+            circuitBreaker.onError(System.nanoTime() - start);
+            circuitBreaker.recordLostInvalidation();
+            log.warn("Tag invalidation of {} lost, caches will be cleared when Redis recovers", tags, ex);
+            return Map.of();
+        }
+    }
+}
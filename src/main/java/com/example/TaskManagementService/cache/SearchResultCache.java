@@ -0,0 +1,152 @@
+package com.example.TaskManagementService.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Caches search result pages under keys stamped with a per-scope generation counter.
+ *
+ * The counters live in Redis. A write bumps the generation of every scope it affects,
+ * which makes all pages cached under the old generation unreachable at once without
+ * scanning or deleting keys; the orphaned pages simply expire. When Redis or the cache
+ * is unavailable, or the shared {@link RedisCircuitBreaker} is open, searches go straight
+ * to the database and generations are not bumped.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchResultCache {
+
+    public static final String CACHE_NAME = "search";
+
+    private static final String GENERATION_PREFIX = "search-generation::";
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectProvider<RedisCircuitBreaker> circuitBreakerProvider;
+
+    public static String projectScope(Long projectId) {
+        return projectId != null ? "project:" + projectId : "project:all";
+    }
+
+    public static String userScope(String email) {
+        return "user:" + email;
+    }
+
+    /**
+     * Returns the cached page for the scope and normalized filters, loading and caching it on a miss.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String scope, String filters, Supplier<T> loader) {
+        Cache cache = resolveCache();
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (cache == null || redisTemplate == null) {
+            return loader.get();
+        }
+
+        RedisCircuitBreaker circuitBreaker = circuitBreakerProvider.getIfAvailable();
+        if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+            return loader.get();
+        }
+
+        String generation;
+        long start = System.nanoTime();
+        try {
+            generation = redisTemplate.opsForValue().get(GENERATION_PREFIX + scope);
+            if (circuitBreaker != null) {
+                circuitBreaker.onSuccess(System.nanoTime() - start);
+            }
+        } catch (RuntimeException ex) {
+            if (circuitBreaker != null) {
+                circuitBreaker.onError(System.nanoTime() - start);
+            }
+            log.warn("Search cache unavailable for scope '{}', querying the database", scope, ex);
+            return loader.get();
+        }
+
+        String key = scope + "@" + (generation != null ? generation : "0") + ":" + filters;
+        try {
+            Cache.ValueWrapper cached = cache.get(key);
+            if (cached != null && cached.get() != null) {
+                return (T) cached.get();
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Search cache unavailable for scope '{}', querying the database", scope, ex);
+            return loader.get();
+        }
+
+        T result = loader.get();
+        try {
+            cache.put(key, result);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to cache search results for scope '{}'", scope, ex);
+        }
+        return result;
+    }
+
+    /**
+     * Moves the given scopes to a new generation, after commit when a transaction is active.
+     */
+    public void bump(Collection<String> scopes) {
+        if (scopes.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<String> pending = List.copyOf(scopes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(pending);
+                }
+            });
+        } else {
+            increment(scopes);
+        }
+    }
+
+    private void increment(Collection<String> scopes) {
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return;
+        }
+
+        // Pages of a scope that isn't bumped stay reachable until the search cache TTL
+        RedisCircuitBreaker circuitBreaker = circuitBreakerProvider.getIfAvailable();
+        for (String scope : scopes) {
+            if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+                log.warn("Redis circuit open, search generation of '{}' not bumped", scope);
+                continue;
+            }
+
+            long start = System.nanoTime();
+            try {
+                redisTemplate.opsForValue().increment(GENERATION_PREFIX + scope);
+                if (circuitBreaker != null) {
+                    circuitBreaker.onSuccess(System.nanoTime() - start);
+                }
+            } catch (RuntimeException ex) {
+                if (circuitBreaker != null) {
+                    circuitBreaker.onError(System.nanoTime() - start);
+                }
+                log.warn("Failed to bump search generation of '{}'", scope, ex);
+            }
+        }
+    }
+
+    private Cache resolveCache() {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        return cacheManager != null ? cacheManager.getCache(CACHE_NAME) : null;
+    }
+}
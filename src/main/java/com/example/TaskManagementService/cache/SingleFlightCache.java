@@ -0,0 +1,211 @@
+package com.example.TaskManagementService.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Protects the loaders of {@code @Cacheable(sync = true)} methods against stampedes.
+ *
+ * <ul>
+ *     <li>Single flight: concurrent misses for the same key on this node share one load.</li>
+ *     <li>Optional {@link LoadLock} across nodes: a node that loses the lock waits briefly
+ *     for the winner's value instead of querying the database as well.</li>
+ *     <li>Probabilistic early refresh (XFetch): a hit on a frequently read key that this node
+ *     loaded may recompute it shortly before it expires, with a probability that grows as
+ *     expiry approaches and with how long the load took. The refresh runs in the requesting
+ *     thread while other readers keep getting the cached value.</li>
+ * </ul>
+ */
+@Slf4j
+public class SingleFlightCache extends ForwardingCache {
+
+    private static final Duration LOCK_POLL_INTERVAL = Duration.ofMillis(25);
+    private static final int TRACKED_KEYS = 10_000;
+
+    /**
+     * @param lockWait           how long to wait for another node's load before loading anyway
+     * @param earlyRefreshBeta   XFetch aggressiveness; 0 disables early refresh, 1 is the usual choice
+     * @param earlyRefreshMinReads hits needed since the last load before a key qualifies for early refresh
+     */
+    public record Settings(Duration lockWait, double earlyRefreshBeta, int earlyRefreshMinReads) {
+    }
+
+    private record LoadState(long expiresAtNanos, long loadNanos, LongAdder reads) {
+    }
+
+    private final LoadLock loadLock;
+    private final Settings settings;
+    private final BiFunction<Object, Object, Duration> ttlFunction;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final com.github.benmanes.caffeine.cache.Cache<Object, LoadState> loadStates = Caffeine.newBuilder()
+            .maximumSize(TRACKED_KEYS)
+            .build();
+
+    /**
+     * @param loadLock    cross-node lock, or null for node-local single flight only
+     * @param ttlFunction time-to-live of an entry, used to predict its expiry for early refresh
+     */
+    public SingleFlightCache(Cache delegate, LoadLock loadLock, Settings settings,
+                             BiFunction<Object, Object, Duration> ttlFunction) {
+        super(delegate);
+        this.loadLock = loadLock;
+        this.settings = settings;
+        this.ttlFunction = ttlFunction;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = super.get(key);
+        if (cached == null) {
+            return (T) singleFlight(key, valueLoader, true);
+        }
+
+        if (shouldRefreshEarly(key)) {
+            Object refreshed = singleFlight(key, valueLoader, false);
+            if (refreshed != null) {
+                return (T) refreshed;
+            }
+        }
+        return (T) cached.get();
+    }
+
+    /**
+     * Runs the load unless one is already in flight for the key. Waiters join the running
+     * load; with {@code joinRunning} false (early refresh) they return null instead.
+     */
+    private Object singleFlight(Object key, Callable<?> valueLoader, boolean joinRunning) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return joinRunning ? await(running, key, valueLoader) : null;
+        }
+
+        try {
+            Object value = loadWithLock(key, valueLoader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object loadWithLock(Object key, Callable<?> valueLoader) {
+        if (loadLock == null) {
+            return loadAndStore(key, valueLoader);
+        }
+
+        String token;
+        try {
+            token = loadLock.tryAcquire(getName(), key);
+        } catch (RuntimeException ex) {
+            log.warn("Load lock unavailable for cache '{}', loading without it", getName(), ex);
+            return loadAndStore(key, valueLoader);
+        }
+
+        if (token == null) {
+            ValueWrapper loadedElsewhere = waitForValue(key);
+            return loadedElsewhere != null ? loadedElsewhere.get() : loadAndStore(key, valueLoader);
+        }
+
+        try {
+            return loadAndStore(key, valueLoader);
+        } finally {
+            try {
+                loadLock.release(getName(), key, token);
+            } catch (RuntimeException ex) {
+                // The lease expires on its own
+                log.warn("Failed to release load lock for cache '{}'", getName(), ex);
+            }
+        }
+    }
+
+    private ValueWrapper waitForValue(Object key) {
+        long deadline = System.nanoTime() + settings.lockWait().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper value = super.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private Object loadAndStore(Object key, Callable<?> valueLoader) {
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        long loadNanos = System.nanoTime() - start;
+
+        // Misses are remembered by NegativeCachingCache with a short TTL, not stored here
+        if (value == null) {
+            return null;
+        }
+        put(key, value);
+
+        Duration ttl = ttlFunction.apply(key, value);
+        if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+            loadStates.put(key, new LoadState(start + loadNanos + ttl.toNanos(), loadNanos, new LongAdder()));
+        }
+        return value;
+    }
+
+    // XFetch: refresh when now - loadTime * beta * ln(rand) >= expiry
+    private boolean shouldRefreshEarly(Object key) {
+        if (settings.earlyRefreshBeta() <= 0) {
+            return false;
+        }
+
+        LoadState state = loadStates.getIfPresent(key);
+        if (state == null) {
+            return false;
+        }
+
+        state.reads().increment();
+        if (state.reads().sum() < settings.earlyRefreshMinReads()) {
+            return false;
+        }
+
+        double random = ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1.0);
+        double headStartNanos = -state.loadNanos() * settings.earlyRefreshBeta() * Math.log(random);
+        return System.nanoTime() + headStartNanos >= state.expiresAtNanos();
+    }
+
+    private Object await(CompletableFuture<Object> running, Object key, Callable<?> valueLoader) {
+        try {
+            return running.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+        }
+    }
+}
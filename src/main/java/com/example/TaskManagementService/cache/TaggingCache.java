@@ -0,0 +1,59 @@
+package com.example.TaskManagementService.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * Records the tags of every entry written through it in a {@link CacheTagIndex}.
+ * Evicting by tag is done by {@link CacheInvalidator}; evicted keys are not removed
+ * from the index because evicting an absent entry is harmless.
+ */
+public class TaggingCache extends ForwardingCache {
+
+    private final CacheTagIndex tagIndex;
+
+    public TaggingCache(Cache delegate, CacheTagIndex tagIndex) {
+        super(delegate);
+        this.tagIndex = tagIndex;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return super.get(key, () -> {
+            T value = valueLoader.call();
+            tag(key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        tag(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            tag(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        super.putAll(entries);
+        entries.forEach(this::tag);
+    }
+
+    private void tag(Object key, Object value) {
+        Set<String> tags = CacheTags.forEntry(key, value);
+        if (!tags.isEmpty()) {
+            tagIndex.tag(getName(), key, tags);
+        }
+    }
+}
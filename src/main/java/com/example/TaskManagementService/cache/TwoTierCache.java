@@ -0,0 +1,320 @@
+package com.example.TaskManagementService.cache;
+
+import com.example.TaskManagementService.dto.PagedResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps a bounded in-process L1 (Caffeine, W-TinyLFU admission) in front of a shared
+ * remote cache.
+ *
+ * L1 is only filled from values read back from the remote tier, never from the
+ * instance a caller passes to put, so every node holds the same deserialized state.
+ * Writes go to the remote tier first, drop the local copy and broadcast the key
+ * through the {@link CacheInvalidationBus} so other nodes drop theirs too.
+ * L1 keys are the string form of the cache key, which is also what travels over pub/sub.
+ *
+ * An invalidation can arrive while a remote read is in flight. Every invalidation bumps
+ * a stamp for the key (striped, so keys share stamps), and L1 is only filled when the
+ * stamp taken before the remote read is still current; otherwise the value read may
+ * already be stale and stays out of L1.
+ */
+public class TwoTierCache extends ForwardingCache {
+
+    private static final int STAMP_STRIPES = 64;
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final CacheInvalidationBus invalidationBus;
+    private final AtomicLongArray invalidationStamps = new AtomicLongArray(STAMP_STRIPES);
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TwoTierCache(Cache remote, long maximumWeight, Duration expireAfterWrite,
+                        CacheInvalidationBus invalidationBus) {
+        super(remote);
+        this.invalidationBus = invalidationBus;
+        this.local = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((String key, Object value) -> weigh(value))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(fromStoreValue(cached));
+        }
+
+        long stamp = stamp(localKey);
+        ValueWrapper wrapper = super.get(key);
+        if (wrapper == null) {
+            misses.increment();
+            return null;
+        }
+
+        remoteHits.increment();
+        fillLocal(localKey, toStoreValue(wrapper.get()), stamp);
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return (T) fromStoreValue(cached);
+        }
+
+        // One remote round trip; only a value read back from the remote tier goes to L1
+        long stamp = stamp(localKey);
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = super.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        if (loaded.get()) {
+            misses.increment();
+        } else {
+            remoteHits.increment();
+            fillLocal(localKey, toStoreValue(value), stamp);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        evictLocalAndBroadcast(List.of(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        evictLocalAndBroadcast(List.of(key));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        evictLocalAndBroadcast(List.of(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = super.evictIfPresent(key);
+        evictLocalAndBroadcast(List.of(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        clearLocalAndBroadcast();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = super.invalidate();
+        clearLocalAndBroadcast();
+        return invalidated;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> found = new LinkedHashMap<>();
+        List<Object> remaining = new ArrayList<>();
+
+        for (Object key : keys) {
+            Object cached = local.getIfPresent(localKey(key));
+            if (cached != null && cached != NullValue.INSTANCE) {
+                found.put(key, cached);
+            } else if (cached == null) {
+                remaining.add(key);
+            }
+        }
+        localHits.add(found.size());
+
+        if (!remaining.isEmpty()) {
+            Map<String, Long> stamps = new LinkedHashMap<>();
+            remaining.forEach(key -> stamps.put(localKey(key), stamp(localKey(key))));
+            Map<Object, Object> fromRemote = super.getAll(remaining);
+            fromRemote.forEach((key, value) -> fillLocal(localKey(key), value, stamps.get(localKey(key))));
+            found.putAll(fromRemote);
+            remoteHits.add(fromRemote.size());
+            misses.add(remaining.size() - fromRemote.size());
+        }
+
+        return found;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        super.putAll(entries);
+        evictLocalAndBroadcast(entries.keySet());
+    }
+
+    /**
+     * Drops the L1 copies of entries that were deleted from the remote tier directly
+     * (e.g. by a purge), on this node and on every other node.
+     */
+    public void evictLocalEverywhere(Collection<String> localKeys) {
+        evictLocalAndBroadcast(localKeys);
+    }
+
+    /**
+     * Drops local entries on behalf of another node. Nothing is rebroadcast.
+     */
+    void evictLocal(Collection<String> localKeys) {
+        invalidateLocal(localKeys);
+    }
+
+    /**
+     * Empties L1 on behalf of another node. Nothing is rebroadcast.
+     */
+    void clearLocal() {
+        invalidateAllLocal();
+    }
+
+    public TierStatistics getStatistics() {
+        return new TierStatistics(localHits.sum(), remoteHits.sum(), misses.sum(),
+                local.estimatedSize(), local.stats().evictionCount());
+    }
+
+    /**
+     * Publishes per-tier lookup counters and L1 size under the cache's name.
+     */
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.tier.gets", localHits, LongAdder::doubleValue)
+                .tags("cache", getName(), "tier", "l1", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.tier.gets", remoteHits, LongAdder::doubleValue)
+                .tags("cache", getName(), "tier", "l2", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.tier.gets", misses, LongAdder::doubleValue)
+                .tags("cache", getName(), "tier", "l2", "result", "miss")
+                .register(registry);
+        Gauge.builder("cache.tier.l1.size", local, cache -> cache.estimatedSize())
+                .tag("cache", getName())
+                .register(registry);
+        FunctionCounter.builder("cache.tier.l1.evictions", local, cache -> cache.stats().evictionCount())
+                .tag("cache", getName())
+                .register(registry);
+    }
+
+    private void evictLocalAndBroadcast(Collection<?> keys) {
+        List<String> localKeys = keys.stream().map(TwoTierCache::localKey).toList();
+        invalidateLocal(localKeys);
+        invalidationBus.publishEvict(getName(), localKeys);
+    }
+
+    private void clearLocalAndBroadcast() {
+        invalidateAllLocal();
+        invalidationBus.publishClear(getName());
+    }
+
+    // The stamp moves before the entry goes, so a read that started earlier cannot put it back
+    private void invalidateLocal(Collection<String> localKeys) {
+        localKeys.forEach(localKey -> invalidationStamps.incrementAndGet(stripe(localKey)));
+        local.invalidateAll(localKeys);
+    }
+
+    private void invalidateAllLocal() {
+        for (int i = 0; i < STAMP_STRIPES; i++) {
+            invalidationStamps.incrementAndGet(i);
+        }
+        local.invalidateAll();
+    }
+
+    private long stamp(String localKey) {
+        return invalidationStamps.get(stripe(localKey));
+    }
+
+    // Checked under the entry's lock, which an invalidation of the key also takes
+    private void fillLocal(String localKey, Object value, long stamp) {
+        local.asMap().compute(localKey, (k, current) -> stamp(localKey) == stamp ? value : current);
+    }
+
+    private static int stripe(String localKey) {
+        return localKey.hashCode() & (STAMP_STRIPES - 1);
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Object toStoreValue(Object value) {
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    private static Object fromStoreValue(Object value) {
+        return value == NullValue.INSTANCE ? null : value;
+    }
+
+    // List-valued entries (project task lists, pages) weigh as much as the items they hold
+    private static int weigh(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return 1 + collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return 1 + map.size();
+        }
+        if (value instanceof PagedResponse<?> page && page.getContent() != null) {
+            return 1 + page.getContent().size();
+        }
+        return 1;
+    }
+
+    /**
+     * Lookup counters per tier. A remote hit is a lookup that missed L1 but found the value in Redis.
+     */
+    public record TierStatistics(long localHits, long remoteHits, long misses, long localSize, long localEvictions) {
+
+        public double localHitRatio() {
+            long total = localHits + remoteHits + misses;
+            return total == 0 ? 0.0 : (double) localHits / total;
+        }
+
+        public double hitRatio() {
+            long total = localHits + remoteHits + misses;
+            return total == 0 ? 0.0 : (double) (localHits + remoteHits) / total;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.TaskManagementService.config;
+
+import com.example.TaskManagementService.websocket.EmbeddedStompBroker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Starts an in-process STOMP broker for the broker relay to use, so relay mode can run
+ * without an external broker (local runs, integration tests). Artemis is an optional
+ * dependency that the packaged jar leaves out, so this needs it on the classpath too.
+ */
+@Configuration
+@ConditionalOnClass(name = "org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ")
+@ConditionalOnProperty(name = "websocket.broker.embedded.enabled", havingValue = "true")
+public class EmbeddedStompBrokerConfig {
+
+    // Started while the context refreshes, before the relay connects to it
+    @Bean
+    public EmbeddedStompBroker embeddedStompBroker(@Value("${websocket.broker.relay.host:localhost}") String host,
+                                                   @Value("${websocket.broker.relay.port:61613}") int port)
+            throws Exception {
+        EmbeddedStompBroker broker = new EmbeddedStompBroker(host, port);
+        broker.start();
+        return broker;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.TaskManagementService.config;
+
+import com.example.TaskManagementService.cache.RedisCircuitBreaker;
+import com.example.TaskManagementService.ratelimit.EndpointGroup;
+import com.example.TaskManagementService.ratelimit.LocalRateLimiter;
+import com.example.TaskManagementService.ratelimit.RateLimitFilter;
+import com.example.TaskManagementService.ratelimit.RateLimiter;
+import com.example.TaskManagementService.ratelimit.RedisRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+@Slf4j
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(
+            @Value("${rate-limit.mode:local}") String mode,
+            @Value("${rate-limit.groups.auth.capacity:10}") long authCapacity,
+            @Value("${rate-limit.groups.auth.refill-per-second:0.2}") double authRefill,
+            @Value("${rate-limit.groups.search.capacity:20}") long searchCapacity,
+            @Value("${rate-limit.groups.search.refill-per-second:5}") double searchRefill,
+            @Value("${rate-limit.groups.api.capacity:100}") long apiCapacity,
+            @Value("${rate-limit.groups.api.refill-per-second:50}") double apiRefill,
+            @Value("${rate-limit.local.maximum-clients:100000}") long maximumClients,
+            @Value("${rate-limit.local.idle-expiry:10m}") Duration idleExpiry,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            ObjectProvider<RedisCircuitBreaker> circuitBreaker) {
+        LocalRateLimiter local = new LocalRateLimiter(Map.of(
+                EndpointGroup.AUTH, new RateLimiter.Limit(authCapacity, authRefill),
+                EndpointGroup.SEARCH, new RateLimiter.Limit(searchCapacity, searchRefill),
+                EndpointGroup.API, new RateLimiter.Limit(apiCapacity, apiRefill)),
+                maximumClients, idleExpiry);
+
+        if (!"redis".equalsIgnoreCase(mode)) {
+            return local;
+        }
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        if (template == null) {
+            log.warn("rate-limit.mode=redis but Redis is not configured; limiting per node");
+            return local;
+        }
+        return new RedisRateLimiter(template, local, circuitBreaker.getIfAvailable());
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimiter rateLimiter,
+                                           ObjectMapper objectMapper,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${rate-limit.enabled:true}") boolean enabled) {
+        return new RateLimitFilter(rateLimiter, objectMapper, meterRegistry, enabled);
+    }
+
+    // Runs inside the security chain only, after the JWT filter has identified the user
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -1,29 +1,94 @@
 package com.example.TaskManagementService.config;
 
+import com.example.TaskManagementService.cache.CacheInvalidationBus;
+import com.example.TaskManagementService.cache.CacheTagIndex;
+import com.example.TaskManagementService.cache.CompactRedisSerializer;
+import com.example.TaskManagementService.cache.DecoratingCacheManager;
+import com.example.TaskManagementService.cache.InstrumentedCache;
+import com.example.TaskManagementService.cache.LoadLock;
+import com.example.TaskManagementService.cache.NegativeCachingCache;
+import com.example.TaskManagementService.cache.RedisBatchCache;
+import com.example.TaskManagementService.cache.RedisCacheTagIndex;
+import com.example.TaskManagementService.cache.RedisCircuitBreaker;
+import com.example.TaskManagementService.cache.RedisLoadLock;
+import com.example.TaskManagementService.cache.ResilientCache;
+import com.example.TaskManagementService.cache.ResilientCacheTagIndex;
+import com.example.TaskManagementService.cache.SearchResultCache;
+import com.example.TaskManagementService.cache.SingleFlightCache;
+import com.example.TaskManagementService.cache.TaggingCache;
+import com.example.TaskManagementService.cache.TwoTierCache;
+import com.example.TaskManagementService.security.RedisRevokedTokenStore;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Set;
 
 @Configuration
 @EnableCaching
 @Profile("!test")
 public class RedisConfig {
 
+    @Value("${cache.serialization.format:SMILE}")
+    private CompactRedisSerializer.Format serializationFormat;
+
+    @Value("${cache.serialization.compression-threshold:2048}")
+    private int compressionThreshold;
+
+    @Value("${cache.local.maximum-weight:10000}")
+    private long localMaximumWeight;
+
+    @Value("${cache.local.expire-after-write:60s}")
+    private Duration localExpireAfterWrite;
+
+    @Value("${cache.stampede.distributed-lock.enabled:false}")
+    private boolean distributedLockEnabled;
+
+    @Value("${cache.stampede.distributed-lock.lease:10s}")
+    private Duration lockLease;
+
+    @Value("${cache.stampede.distributed-lock.wait:2s}")
+    private Duration lockWait;
+
+    @Value("${cache.stampede.early-refresh.beta:1.0}")
+    private double earlyRefreshBeta;
+
+    @Value("${cache.stampede.early-refresh.min-reads:5}")
+    private int earlyRefreshMinReads;
+
+    @Value("${cache.negative.ttl:60s}")
+    private Duration negativeTtl;
+
+    @Value("${cache.negative.caches:tasks,projects,users}")
+    private Set<String> negativeCaches;
+
+    @Value("${cache.clear.batch-size:1000}")
+    private int clearBatchSize;
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
@@ -42,7 +107,57 @@ public class RedisConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+                                                     @Value("${cache.invalidation.channel:cache:invalidation}") String channel) {
+        return new CacheInvalidationBus(stringRedisTemplate, channel);
+    }
+
+    @Bean
+    public RedisRevokedTokenStore revokedTokenStore(StringRedisTemplate stringRedisTemplate,
+                                                    @Value("${security.revocation.channel:token:revocations}") String channel) {
+        return new RedisRevokedTokenStore(stringRedisTemplate, channel);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheInvalidationBus invalidationBus,
+                                                                            RedisRevokedTokenStore revokedTokenStore) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(invalidationBus.getChannel()));
+        container.addMessageListener(revokedTokenStore, new ChannelTopic(revokedTokenStore.getChannel()));
+        return container;
+    }
+
+    @Bean
+    public RedisCircuitBreaker redisCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${cache.circuit-breaker.window-size:50}") int windowSize,
+            @Value("${cache.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${cache.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${cache.circuit-breaker.slow-call-duration:100ms}") Duration slowCallDuration,
+            @Value("${cache.circuit-breaker.open-duration:5s}") Duration openDuration,
+            @Value("${cache.circuit-breaker.half-open-trial-calls:5}") int halfOpenTrialCalls) {
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(new RedisCircuitBreaker.Settings(
+                windowSize, minimumCalls, failureRateThreshold, slowCallDuration, openDuration, halfOpenTrialCalls));
+        circuitBreaker.bindTo(meterRegistry);
+        return circuitBreaker;
+    }
+
+    @Bean
+    public CacheTagIndex cacheTagIndex(StringRedisTemplate stringRedisTemplate,
+                                       RedisCircuitBreaker circuitBreaker,
+                                       @Value("${cache.tags.ttl:30m}") Duration ttl) {
+        return new ResilientCacheTagIndex(new RedisCacheTagIndex(stringRedisTemplate, ttl), circuitBreaker);
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     CacheInvalidationBus invalidationBus,
+                                     CacheTagIndex tagIndex,
+                                     RedisCircuitBreaker circuitBreaker,
+                                     MeterRegistry meterRegistry) {
         // Configure ObjectMapper for proper JSON serialization
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
@@ -54,7 +169,9 @@ public class RedisConfig {
                 JsonTypeInfo.As.PROPERTY
         );
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        // Binary values with compression; existing JSON entries remain readable
+        RedisSerializer<Object> serializer = new CompactRedisSerializer(
+                objectMapper, serializationFormat, compressionThreshold);
 
         // Default cache configuration
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
@@ -79,11 +196,80 @@ public class RedisConfig {
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
 
-        return RedisCacheManager.builder(connectionFactory)
+        // Search pages are keyed by generation, so superseded pages just age out
+        RedisCacheConfiguration searchConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(2))
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
+                .disableCachingNullValues();
+
+        // Not-found records are tiny and short-lived; they only absorb repeated misses
+        RedisCacheConfiguration notFoundConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(negativeTtl)
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
+                .disableCachingNullValues();
+
+        // Clearing a cache deletes its keys in SCAN batches instead of one blocking KEYS call
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(clearBatchSize));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withCacheConfiguration("projects", projectConfig)
                 .withCacheConfiguration("tasks", taskConfig)
                 .withCacheConfiguration("users", userConfig)
+                .withCacheConfiguration(SearchResultCache.CACHE_NAME, searchConfig)
+                .withCacheConfiguration(NegativeCachingCache.STORE_NAME, notFoundConfig)
                 .build();
+        Cache notFoundStore = new ResilientCache(
+                redisCacheManager.getCache(NegativeCachingCache.STORE_NAME), circuitBreaker);
+
+        LoadLock loadLock = distributedLockEnabled ? new RedisLoadLock(stringRedisTemplate, lockLease) : null;
+
+        return new DecoratingCacheManager(redisCacheManager, cache ->
+                decorate(cache, connectionFactory, invalidationBus, tagIndex, circuitBreaker, loadLock,
+                        notFoundStore, meterRegistry));
+    }
+
+    private Cache decorate(Cache cache, RedisConnectionFactory connectionFactory,
+                           CacheInvalidationBus invalidationBus, CacheTagIndex tagIndex,
+                           RedisCircuitBreaker circuitBreaker, LoadLock loadLock, Cache notFoundStore,
+                           MeterRegistry meterRegistry) {
+        if (!(cache instanceof RedisCache redisCache)) {
+            return cache;
+        }
+
+        // Multi-key lookups use MGET and pipelined writes; while Redis is failing or slow
+        // the circuit breaker turns every call into a miss instead of a wait
+        Cache remote = new ResilientCache(new RedisBatchCache(redisCache, connectionFactory), circuitBreaker);
+        if (NegativeCachingCache.STORE_NAME.equals(cache.getName())) {
+            return remote;
+        }
+
+        // Per-node L1 in front of Redis, invalidated across nodes over pub/sub
+        TwoTierCache twoTier = new TwoTierCache(remote, localMaximumWeight, localExpireAfterWrite, invalidationBus);
+        invalidationBus.register(twoTier);
+        twoTier.bindTo(meterRegistry);
+
+        // Records entry tags so writes can evict only the entries that depend on them
+        Cache tagged = new TaggingCache(twoTier, tagIndex);
+
+        // One load per key at a time, optionally across nodes, plus early refresh of hot keys
+        Cache singleFlight = new SingleFlightCache(tagged, loadLock,
+                new SingleFlightCache.Settings(lockWait, earlyRefreshBeta, earlyRefreshMinReads),
+                (key, value) -> redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive(key, value));
+
+        // Short-TTL records of lookups that found nothing
+        Cache outer = singleFlight;
+        if (negativeCaches.contains(cache.getName())) {
+            NegativeCachingCache negative = new NegativeCachingCache(singleFlight, notFoundStore);
+            negative.bindTo(meterRegistry);
+            outer = negative;
+        }
+
+        // Hit/miss/put/eviction counters, load latency and hot key sampling;
+        // requests that joined another request's load count as hits
+        return new InstrumentedCache(outer, meterRegistry);
     }
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package com.example.TaskManagementService.config;
 
+import com.example.TaskManagementService.ratelimit.RateLimitFilter;
+import com.example.TaskManagementService.security.BoundedPasswordEncoder;
 import com.example.TaskManagementService.service.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,12 +18,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -36,6 +43,7 @@ public class SecurityConfig {
 
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        .requestMatchers("/api/auth/logout", "/api/auth/logout-all").authenticated()
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/swagger-ui/**",
@@ -44,17 +52,32 @@ public class SecurityConfig {
                                 "/actuator/**",
                                 "/ws/**"
                         ).permitAll()
+                        // Hot keys of the users cache are user emails; clears and purges hit every user
+                        .requestMatchers("/api/cache/purge/**", "/api/cache/clear/**", "/api/cache/stats/*/hot-keys")
+                        .hasRole("ADMIN")
 
                         .anyRequest().authenticated()
                 )
 
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * BCrypt at the configured cost, run on a bounded pool of its own so that a burst of
+     * logins cannot occupy every request thread. Hashes stored at a lower cost are
+     * rehashed on the next successful login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${security.password.hashing.timeout:5s}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength),
+                threads, queueCapacity, timeout, meterRegistry);
     }
 }
\ No newline at end of file
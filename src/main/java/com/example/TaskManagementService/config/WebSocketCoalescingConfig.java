@@ -0,0 +1,29 @@
+package com.example.TaskManagementService.config;
+
+import com.example.TaskManagementService.websocket.ProjectEventCoalescer;
+import com.example.TaskManagementService.websocket.WebSocketRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Batches project events per project before they reach the relay
+ * ({@code websocket.coalescing.enabled}, on by default).
+ */
+@Configuration
+@ConditionalOnProperty(name = "websocket.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class WebSocketCoalescingConfig {
+
+    @Bean
+    public ProjectEventCoalescer projectEventCoalescer(WebSocketRelay webSocketRelay,
+                                                       @Value("${websocket.coalescing.window:50ms}") Duration window,
+                                                       @Value("${websocket.coalescing.max-latency:250ms}") Duration maxLatency,
+                                                       @Value("${websocket.coalescing.max-batch-size:200}") int maxBatchSize,
+                                                       MeterRegistry meterRegistry) {
+        return new ProjectEventCoalescer(webSocketRelay, window, maxLatency, maxBatchSize, meterRegistry);
+    }
+}
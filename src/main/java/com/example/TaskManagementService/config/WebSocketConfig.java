@@ -1,23 +1,167 @@
 package com.example.TaskManagementService.config;
 
+import com.example.TaskManagementService.websocket.WebSocketSessionMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.time.Duration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketSessionMonitor sessionMonitor;
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    // simple: in-memory broker on the application's heap and threads; relay: external STOMP broker
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${websocket.relay.mode:local}")
+    private String relayMode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    // 0 uses twice the available processors
+    @Value("${websocket.channels.inbound.pool-size:0}")
+    private int inboundPoolSize;
+
+    @Value("${websocket.channels.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.channels.outbound.pool-size:0}")
+    private int outboundPoolSize;
+
+    @Value("${websocket.channels.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${websocket.channels.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    // Per session: a client that cannot take a frame within the time limit, or lets this much back up, is disconnected
+    @Value("${websocket.transport.send-time-limit:5s}")
+    private Duration sendTimeLimit;
+
+    @Value("${websocket.transport.send-buffer-size-limit:256KB}")
+    private DataSize sendBufferSizeLimit;
+
+    @Value("${websocket.transport.message-size-limit:64KB}")
+    private DataSize messageSizeLimit;
+
+    // Connections that send no STOMP frame within this time are closed
+    @Value("${websocket.transport.time-to-first-message:30s}")
+    private Duration timeToFirstMessage;
+
+    // STOMP heartbeats; sessions whose client stops sending them are closed as idle
+    @Value("${websocket.heartbeat.interval:10s}")
+    private Duration heartbeatInterval;
+
+    public WebSocketConfig(MeterRegistry meterRegistry) {
+        this.sessionMonitor = new WebSocketSessionMonitor(meterRegistry);
+    }
+
+    // The broker's own scheduler; lazy, since it is defined by the configuration this class customizes
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        // Enable a simple memory-based message broker
-        // Prefix for messages from server to client
-        registry.enableSimpleBroker("/topic", "/queue");
+        // Prefixes for messages from server to client
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            if ("redis".equalsIgnoreCase(relayMode)) {
+                // The broker already reaches every node's clients; the Redis relay would duplicate each message
+                throw new IllegalStateException(
+                        "websocket.broker.mode=relay requires websocket.relay.mode=local");
+            }
+            // Subscriptions and fan-out live in the broker; each client session holds one broker connection
+            StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setSystemHeartbeatSendInterval(heartbeatInterval.toMillis())
+                    .setSystemHeartbeatReceiveInterval(heartbeatInterval.toMillis());
+            if (!relayVirtualHost.isEmpty()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+        } else {
+            // Enable a simple memory-based message broker
+            registry.enableSimpleBroker("/topic", "/queue")
+                    .setHeartbeatValue(new long[]{heartbeatInterval.toMillis(), heartbeatInterval.toMillis()})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
 
         // Prefix for messages from client to server
         registry.setApplicationDestinationPrefixes("/app");
+
+        // Keep messages to each client in publish order (events relayed from Redis rely on it)
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("inbound", inboundPoolSize, inboundQueueCapacity));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("outbound", outboundPoolSize, outboundQueueCapacity));
+        registration.interceptors(sessionMonitor.outboundInterceptor());
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) sendTimeLimit.toMillis())
+                .setSendBufferSizeLimit((int) sendBufferSizeLimit.toBytes())
+                .setMessageSizeLimit((int) messageSizeLimit.toBytes())
+                .setTimeToFirstMessage((int) timeToFirstMessage.toMillis())
+                .addDecoratorFactory(sessionMonitor);
+    }
+
+    // Bounded queue: when clients cannot keep up, messages are dropped and counted instead of piling up on the heap
+    private ThreadPoolTaskExecutor channelExecutor(String channel, int poolSize, int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 2;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name("ws-" + channel + "-", 0).factory());
+        }
+        sessionMonitor.monitor(channel, executor);
+        return executor;
     }
 
     @Override
@@ -27,4 +171,4 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("http://localhost:5173")
                 .withSockJS();  // Fallback option for browsers that don't support WebSocket
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.example.TaskManagementService.config;
+
+import com.example.TaskManagementService.websocket.LocalWebSocketRelay;
+import com.example.TaskManagementService.websocket.RedisWebSocketRelay;
+import com.example.TaskManagementService.websocket.WebSocketRelay;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * Chooses how WebSocket messages reach clients: {@code websocket.relay.mode=local} (the
+ * default) delivers to this node's clients only; {@code redis} fans out to all nodes.
+ */
+@Configuration
+public class WebSocketRelayConfig {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "websocket.relay.mode", havingValue = "local", matchIfMissing = true)
+    static class Local {
+
+        @Bean
+        public WebSocketRelay webSocketRelay(SimpMessagingTemplate messagingTemplate) {
+            return new LocalWebSocketRelay(messagingTemplate);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "websocket.relay.mode", havingValue = "redis")
+    static class Redis {
+
+        @Bean
+        public RedisWebSocketRelay webSocketRelay(StringRedisTemplate stringRedisTemplate,
+                                                  SimpMessagingTemplate messagingTemplate,
+                                                  ObjectMapper objectMapper,
+                                                  @Value("${websocket.relay.channel-prefix:websocket:}") String channelPrefix) {
+            return new RedisWebSocketRelay(stringRedisTemplate, messagingTemplate, objectMapper, channelPrefix);
+        }
+
+        // Own container: messages must be relayed one at a time, in the order Redis delivered them
+        @Bean
+        public RedisMessageListenerContainer webSocketRelayListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            RedisWebSocketRelay relay) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.setTaskExecutor(new SyncTaskExecutor());
+            relay.getChannels().forEach(channel -> container.addMessageListener(relay, new ChannelTopic(channel)));
+            return container;
+        }
+    }
+}
@@ -3,17 +3,21 @@ package com.example.TaskManagementService.controller;
 import com.example.TaskManagementService.dto.AuthResponse;
 import com.example.TaskManagementService.dto.LoginRequest;
 import com.example.TaskManagementService.dto.RegisterRequest;
+import com.example.TaskManagementService.security.AuthenticatedUser;
 import com.example.TaskManagementService.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -64,4 +68,40 @@ public class AuthController {
         AuthResponse response = authService.login(request);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(
+            summary = "Log out",
+            description = "Revokes the token used for this call. Other tokens of the user stay valid."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204",
+                    description = "Token revoked"),
+            @ApiResponse(responseCode = "401",
+                    description = "Unauthorized - JWT token required")
+    })
+    @SecurityRequirement(name = "BearerAuth")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        authService.logout(authorization.substring("Bearer ".length()));
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Log out everywhere",
+            description = "Revokes every token issued to the authenticated user, including the one used for this call."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204",
+                    description = "Tokens revoked"),
+            @ApiResponse(responseCode = "401",
+                    description = "Unauthorized - JWT token required")
+    })
+    @SecurityRequirement(name = "BearerAuth")
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutEverywhere(
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        authService.revokeTokens(user.id(), user.email());
+        return ResponseEntity.noContent().build();
+    }
 }
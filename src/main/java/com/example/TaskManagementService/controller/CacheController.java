@@ -1,5 +1,11 @@
 package com.example.TaskManagementService.controller;
 
+import com.example.TaskManagementService.cache.ForwardingCache;
+import com.example.TaskManagementService.cache.InstrumentedCache;
+import com.example.TaskManagementService.cache.NegativeCachingCache;
+import com.example.TaskManagementService.cache.RedisBatchCache;
+import com.example.TaskManagementService.cache.TwoTierCache;
+import com.example.TaskManagementService.service.CachePurgeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -7,11 +13,16 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -23,32 +34,152 @@ import java.util.Map;
 public class CacheController {
 
     private final CacheManager cacheManager;
+    private final CachePurgeService cachePurgeService;
+
+    private static final int FOOTPRINT_SCAN_LIMIT = 10_000;
+    private static final int FOOTPRINT_SAMPLE_SIZE = 20;
+    private static final int HOT_KEYS_IN_STATS = 10;
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
 
     @Operation(summary = "Get cache statistics",
-            description = "Returns all active cache names currently managed by the application.")
+            description = "Returns hits, misses, puts, evictions, load latency percentiles, approximate entry count "
+                    + "and memory footprint and per-tier (L1 in-process / L2 Redis) hits of every cache, plus the "
+                    + "hottest sampled keys for admins (keys can contain user emails). Caches without "
+                    + "instrumentation are reported as active.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cache statistics retrieved successfully"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required")
     })
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getCacheStats() {
+    public ResponseEntity<Map<String, Object>> getCacheStats(Authentication authentication) {
         Map<String, Object> stats = new HashMap<>();
+        boolean withHotKeys = isAdmin(authentication);
 
         cacheManager.getCacheNames().forEach(cacheName -> {
             var cache = cacheManager.getCache(cacheName);
             if (cache != null) {
-                stats.put(cacheName, "active");
+                stats.put(cacheName, cacheStats(cache, withHotKeys));
             }
         });
 
         return ResponseEntity.ok(stats);
     }
 
+    @Operation(summary = "Get hottest cache keys",
+            description = "Returns the most frequently requested keys of a cache, estimated from sampled lookups. "
+                    + "Admins only, as keys can contain user emails.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Hot keys retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Cache not found or not instrumented"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required")
+    })
+    @GetMapping("/stats/{cacheName}/hot-keys")
+    public ResponseEntity<List<Map<String, Object>>> getHotKeys(@PathVariable String cacheName,
+                                                                @RequestParam(defaultValue = "20") int limit) {
+        var cache = cacheManager.getCache(cacheName);
+        InstrumentedCache instrumented = cache != null ? ForwardingCache.unwrap(cache, InstrumentedCache.class) : null;
+
+        if (instrumented == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(hotKeys(instrumented, Math.max(1, Math.min(limit, 100))));
+    }
+
+    private Object cacheStats(Cache cache, boolean withHotKeys) {
+        InstrumentedCache instrumented = ForwardingCache.unwrap(cache, InstrumentedCache.class);
+        TwoTierCache twoTier = ForwardingCache.unwrap(cache, TwoTierCache.class);
+        NegativeCachingCache negative = ForwardingCache.unwrap(cache, NegativeCachingCache.class);
+        RedisBatchCache redis = ForwardingCache.unwrap(cache, RedisBatchCache.class);
+
+        if (instrumented == null && twoTier == null) {
+            return "active";
+        }
+
+        Map<String, Object> cacheStats = new LinkedHashMap<>();
+        if (instrumented != null) {
+            InstrumentedCache.Statistics statistics = instrumented.getStatistics();
+            cacheStats.put("hits", statistics.hits());
+            cacheStats.put("misses", statistics.misses());
+            cacheStats.put("hitRatio", statistics.hitRatio());
+            cacheStats.put("puts", statistics.puts());
+            cacheStats.put("evictions", statistics.evictions());
+            cacheStats.put("loads", statistics.loads());
+            Map<String, Double> loadMillis = new LinkedHashMap<>();
+            statistics.loadMillisPercentiles().forEach((percentile, millis) ->
+                    loadMillis.put("p" + Math.round(percentile * 100), millis));
+            cacheStats.put("loadMillis", loadMillis);
+        }
+        if (twoTier != null) {
+            cacheStats.put("tiers", tierStats(twoTier.getStatistics()));
+        }
+        if (negative != null) {
+            NegativeCachingCache.Statistics statistics = negative.getStatistics();
+            Map<String, Object> notFound = new LinkedHashMap<>();
+            notFound.put("absorbedLookups", statistics.hits());
+            notFound.put("recorded", statistics.stores());
+            cacheStats.put("notFound", notFound);
+        }
+        if (redis != null) {
+            cacheStats.put("footprint", footprint(redis));
+        }
+        if (instrumented != null && withHotKeys) {
+            cacheStats.put("hotKeys", hotKeys(instrumented, HOT_KEYS_IN_STATS));
+        }
+        return cacheStats;
+    }
+
+    private Object footprint(RedisBatchCache redis) {
+        try {
+            RedisBatchCache.Footprint footprint = redis.estimateFootprint(FOOTPRINT_SCAN_LIMIT, FOOTPRINT_SAMPLE_SIZE);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("approximateEntries", footprint.entries());
+            result.put("truncated", footprint.truncated());
+            result.put("averageValueBytes", footprint.averageValueBytes());
+            result.put("estimatedBytes", footprint.estimatedBytes());
+            return result;
+        } catch (RuntimeException ex) {
+            log.warn("Could not estimate footprint of cache '{}'", redis.getName(), ex);
+            return "unavailable";
+        }
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+    }
+
+    private List<Map<String, Object>> hotKeys(InstrumentedCache cache, int limit) {
+        return cache.getHotKeys(limit).stream()
+                .map(sample -> {
+                    Map<String, Object> hotKey = new LinkedHashMap<>();
+                    hotKey.put("key", sample.key());
+                    hotKey.put("estimatedRequests", sample.samples() * InstrumentedCache.KEY_SAMPLE_RATE);
+                    return hotKey;
+                })
+                .toList();
+    }
+
+    private Map<String, Object> tierStats(TwoTierCache.TierStatistics statistics) {
+        Map<String, Object> tierStats = new LinkedHashMap<>();
+        tierStats.put("l1Hits", statistics.localHits());
+        tierStats.put("l2Hits", statistics.remoteHits());
+        tierStats.put("misses", statistics.misses());
+        tierStats.put("l1HitRatio", statistics.localHitRatio());
+        tierStats.put("hitRatio", statistics.hitRatio());
+        tierStats.put("l1Size", statistics.localSize());
+        tierStats.put("l1Evictions", statistics.localEvictions());
+        return tierStats;
+    }
+
     @Operation(summary = "Clear all caches",
-            description = "Clears all application caches managed by the CacheManager.")
+            description = "Clears all application caches managed by the CacheManager. Redis entries are "
+                    + "deleted in SCAN batches, so Redis keeps serving other clients meanwhile.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "All caches cleared successfully"),
-            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required")
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required")
     })
     @DeleteMapping("/clear")
     public ResponseEntity<String> clearAllCaches() {
@@ -64,12 +195,45 @@ public class CacheController {
         return ResponseEntity.ok("All caches cleared successfully");
     }
 
+    @Operation(summary = "Purge cache entries by key prefix",
+            description = "Starts deleting, in the background, the Redis entries of a cache whose keys start with "
+                    + "the prefix (e.g. 'project:42@' in the search cache). Poll the returned job for progress.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Purge started"),
+            @ApiResponse(responseCode = "400", description = "Cache is not stored in Redis"),
+            @ApiResponse(responseCode = "404", description = "Cache not found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required")
+    })
+    @PostMapping("/purge/{cacheName}")
+    public ResponseEntity<CachePurgeService.PurgeStatus> purgeByPrefix(@PathVariable String cacheName,
+                                                                       @RequestParam(defaultValue = "") String prefix) {
+        log.info("Purging cache '{}' entries with prefix '{}'", cacheName, prefix);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(cachePurgeService.startPurge(cacheName, prefix));
+    }
+
+    @Operation(summary = "Get purge progress",
+            description = "Returns the state and the number of scanned and deleted keys of a purge job.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Purge job found"),
+            @ApiResponse(responseCode = "404", description = "Purge job not found or expired"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required")
+    })
+    @GetMapping("/purge/jobs/{jobId}")
+    public ResponseEntity<CachePurgeService.PurgeStatus> getPurgeStatus(@PathVariable String jobId) {
+        return cachePurgeService.getStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @Operation(summary = "Clear specific cache",
             description = "Clears a specific cache by name.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cache cleared successfully"),
             @ApiResponse(responseCode = "404", description = "Cache not found"),
-            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required")
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required")
     })
     @DeleteMapping("/clear/{cacheName}")
     public ResponseEntity<String> clearCache(@PathVariable String cacheName) {
@@ -4,6 +4,7 @@ import com.example.TaskManagementService.dto.PagedResponse;
 import com.example.TaskManagementService.dto.ProjectRequest;
 import com.example.TaskManagementService.dto.ProjectResponse;
 import com.example.TaskManagementService.entity.ProjectStatus;
+import com.example.TaskManagementService.security.AuthenticatedUser;
 import com.example.TaskManagementService.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,7 +20,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -48,10 +48,10 @@ public class ProjectController {
     @PostMapping
     public ResponseEntity<ProjectResponse> createProject(
             @Valid @RequestBody ProjectRequest request,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
 
         ProjectResponse response =
-                projectService.createProject(request, userDetails.getUsername());
+                projectService.createProject(request, user.email());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -68,10 +68,10 @@ public class ProjectController {
     })
     @GetMapping
     public ResponseEntity<List<ProjectResponse>> getUserProjects(
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
 
         return ResponseEntity.ok(
-                projectService.getUserProjects(userDetails.getUsername())
+                projectService.getUserProjects(user.email())
         );
     }
 
@@ -105,11 +105,12 @@ public class ProjectController {
             @Parameter(description = "Sort direction: asc or desc (default: desc)")
             @RequestParam(defaultValue = "desc") String sortDir,
 
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
 
         return ResponseEntity.ok(
                 projectService.getUserProjectsPaginated(
-                        userDetails.getUsername(),
+                        user.id(),
+                        user.email(),
                         status,
                         search,
                         page,
@@ -134,10 +135,10 @@ public class ProjectController {
     @GetMapping("/{id}")
     public ResponseEntity<ProjectResponse> getProject(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
 
         return ResponseEntity.ok(
-                projectService.getProjectById(id, userDetails.getUsername())
+                projectService.getProjectById(id, user.id())
         );
     }
 
@@ -157,10 +158,10 @@ public class ProjectController {
     public ResponseEntity<ProjectResponse> updateProject(
             @PathVariable Long id,
             @Valid @RequestBody ProjectRequest request,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
 
         return ResponseEntity.ok(
-                projectService.updateProject(id, request, userDetails.getUsername())
+                projectService.updateProject(id, request, user.id(), user.email())
         );
     }
 
@@ -176,9 +177,9 @@ public class ProjectController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProject(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
 
-        projectService.deleteProject(id, userDetails.getUsername());
+        projectService.deleteProject(id, user.id(), user.email());
         return ResponseEntity.noContent().build();
     }
 }
@@ -111,6 +111,7 @@ public class ScheduledJobsController {
                 "checkOverdueTasks - Every 6 hours",
                 "generateDailyReport - Daily at 8 AM",
                 "cleanupOldCompletedTasks - Weekly on Sunday",
+                "purgeTaskTombstones - Daily at 3 AM",
                 "healthCheckPing - Every 5 minutes"
         });
 
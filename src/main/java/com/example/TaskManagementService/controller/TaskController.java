@@ -1,10 +1,12 @@
 package com.example.TaskManagementService.controller;
 
 import com.example.TaskManagementService.dto.PagedResponse;
+import com.example.TaskManagementService.dto.TaskChangesResponse;
 import com.example.TaskManagementService.dto.TaskRequest;
 import com.example.TaskManagementService.dto.TaskResponse;
 import com.example.TaskManagementService.entity.TaskPriority;
 import com.example.TaskManagementService.entity.TaskStatus;
+import com.example.TaskManagementService.security.AuthenticatedUser;
 import com.example.TaskManagementService.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,12 +19,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -49,10 +52,10 @@ public class TaskController {
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(
             @Valid @RequestBody TaskRequest request,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
 
         TaskResponse response =
-                taskService.createTask(request, userDetails.getUsername());
+                taskService.createTask(request, user.email());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -78,6 +81,32 @@ public class TaskController {
         );
     }
 
+    @Operation(
+            summary = "Get task changes for a project",
+            description = "Returns tasks created or updated and IDs of tasks deleted since the given cursor. " +
+                    "Omit 'since' on the first poll and pass the returned 'syncedAt' afterwards. " +
+                    "When 'fullResync' is true the response holds every task of the project."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",
+                    description = "Changes fetched successfully",
+                    content = @Content(schema = @Schema(implementation = TaskChangesResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping("/project/{projectId}/changes")
+    public ResponseEntity<TaskChangesResponse> getProjectTaskChanges(
+            @Parameter(description = "Project ID")
+            @PathVariable Long projectId,
+
+            @Parameter(description = "Cursor returned by the previous poll (ISO-8601)", example = "2026-02-14T12:00:05")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+
+        return ResponseEntity.ok(
+                taskService.getProjectTaskChanges(projectId, since)
+        );
+    }
+
     @Operation(
             summary = "Search tasks with filters",
             description = "Search tasks using optional filters such as project ID, status, priority, keyword, sorting and pagination."
@@ -129,6 +158,27 @@ public class TaskController {
         );
     }
 
+    @Operation(
+            summary = "Get tasks by IDs",
+            description = "Returns the requested tasks in request order. Unknown IDs are skipped. At most 100 IDs per request."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",
+                    description = "Tasks fetched successfully",
+                    content = @Content(schema = @Schema(implementation = TaskResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Too many IDs requested"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping("/batch")
+    public ResponseEntity<List<TaskResponse>> getTasksByIds(
+            @Parameter(description = "Comma-separated task IDs", example = "1,2,3")
+            @RequestParam List<Long> ids) {
+
+        return ResponseEntity.ok(
+                taskService.getTasksByIds(ids)
+        );
+    }
+
     @Operation(
             summary = "Get task by ID",
             description = "Returns a specific task by ID."
@@ -64,6 +64,7 @@ public class ProjectResponse {
     private LocalDateTime updatedAt;
 
     @Data
+    @NoArgsConstructor
     @AllArgsConstructor
     @Schema(description = "Represents a project member")
     public static class MemberDto {
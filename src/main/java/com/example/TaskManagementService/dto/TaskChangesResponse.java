@@ -0,0 +1,47 @@
+package com.example.TaskManagementService.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+        name = "TaskChangesResponse",
+        description = "Tasks of a project changed or deleted since the client's last sync"
+)
+public class TaskChangesResponse {
+
+    @Schema(description = "ID of the project", example = "1")
+    private Long projectId;
+
+    @Schema(
+            description = "Cursor to send as 'since' on the next poll",
+            example = "2026-02-14T12:00:05"
+    )
+    private LocalDateTime syncedAt;
+
+    @Schema(
+            description = "True when 'changed' holds the complete task list and the client must replace its local copy",
+            example = "false"
+    )
+    private boolean fullResync;
+
+    @ArraySchema(
+            schema = @Schema(implementation = TaskResponse.class),
+            arraySchema = @Schema(description = "Tasks created or updated since the cursor")
+    )
+    private List<TaskResponse> changed;
+
+    @ArraySchema(
+            schema = @Schema(description = "Task ID", example = "42"),
+            arraySchema = @Schema(description = "IDs of tasks deleted since the cursor")
+    )
+    private List<Long> deletedTaskIds;
+}
@@ -0,0 +1,38 @@
+package com.example.TaskManagementService.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+        name = "TaskDelta",
+        description = "Fields of a task changed by one update, sent over WebSocket instead of the full task. " +
+                "A client holding a version other than previousVersion has missed an update and should " +
+                "reload the task (GET /api/tasks/{id})"
+)
+public class TaskDelta {
+
+    @Schema(description = "ID of the task", example = "101")
+    private Long id;
+
+    @Schema(description = "ID of the task's project", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Version the changes apply to", example = "2")
+    private Long previousVersion;
+
+    @Schema(description = "Version of the task after the changes", example = "3")
+    private Long version;
+
+    @Schema(
+            description = "Changed fields by TaskResponse property name; null means the field was cleared",
+            example = "{ \"status\": \"COMPLETED\", \"updatedAt\": \"2026-02-14T12:00:00\" }"
+    )
+    private Map<String, Object> changes;
+}
@@ -0,0 +1,41 @@
+package com.example.TaskManagementService.dto;
+
+import com.example.TaskManagementService.entity.TaskPriority;
+import com.example.TaskManagementService.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Flat, read-only view of a task used by background jobs")
+public class TaskDigest {
+
+    @Schema(description = "Unique ID of the task", example = "101")
+    private Long id;
+
+    @Schema(description = "Title of the task", example = "Implement JWT authentication")
+    private String title;
+
+    @Schema(description = "Current task status", example = "IN_PROGRESS")
+    private TaskStatus status;
+
+    @Schema(description = "Priority level of the task", example = "HIGH")
+    private TaskPriority priority;
+
+    @Schema(description = "Due date and time of the task", example = "2026-02-15T18:00:00")
+    private LocalDateTime dueDate;
+
+    @Schema(description = "Timestamp when the task was last updated", example = "2026-02-14T12:00:00")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "Email address of the assigned user, if any", example = "developer@test.com")
+    private String assigneeEmail;
+
+    @Schema(description = "Full name of the assigned user, if any", example = "John Doe")
+    private String assigneeName;
+}
@@ -72,8 +72,15 @@ public class TaskResponse {
     )
     private LocalDateTime updatedAt;
 
+    @Schema(
+            description = "Version of the task, incremented on every change",
+            example = "3"
+    )
+    private Long version;
+
 
     @Data
+    @NoArgsConstructor
     @AllArgsConstructor
     @Schema(
             name = "TaskAssignee",
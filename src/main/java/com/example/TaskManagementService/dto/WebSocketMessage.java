@@ -16,16 +16,16 @@ public class WebSocketMessage {
     @Schema(
             description = "Event type category",
             example = "TASK",
-            allowableValues = {"TASK", "PROJECT", "SYSTEM"}
+            allowableValues = {"TASK", "PROJECT", "SYSTEM", "BATCH"}
     )
-    private String type;   // TASK, PROJECT, SYSTEM
+    private String type;   // TASK, PROJECT, SYSTEM, BATCH (payload: list of coalesced events)
 
     @Schema(
             description = "Action performed on the entity",
             example = "CREATE",
-            allowableValues = {"CREATE", "UPDATE", "DELETE", "BROADCAST"}
+            allowableValues = {"CREATE", "UPDATE", "DELTA", "DELETE", "BROADCAST", "BATCH"}
     )
-    private String action; // CREATE, UPDATE, DELETE, BROADCAST
+    private String action; // CREATE, UPDATE, DELTA (payload: TaskDelta), DELETE, BROADCAST, BATCH
 
     @Schema(
             description = "Actual payload data (TaskResponse, ProjectResponse, or other DTO)",
@@ -4,13 +4,20 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(
+        name = "tasks",
+        indexes = {
+                @Index(name = "idx_tasks_project_updated_at", columnList = "project_id, updated_at"),
+                @Index(name = "idx_tasks_due_date", columnList = "due_date")
+        }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -50,4 +57,10 @@ public class Task {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    // Bumped on every change; task deltas sent over WebSocket carry it so clients can detect gaps
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.example.TaskManagementService.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marker left behind when a task is deleted so that polling clients can
+ * remove it locally. Purged once older than the sync retention window.
+ */
+@Entity
+@Table(
+        name = "task_tombstones",
+        indexes = @Index(name = "idx_task_tombstones_project_deleted_at", columnList = "project_id, deleted_at")
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @CreationTimestamp
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    public TaskTombstone(Long taskId, Long projectId) {
+        this.taskId = taskId;
+        this.projectId = projectId;
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.TaskManagementService.entity;
 
+import com.example.TaskManagementService.security.TokenVersionInvalidator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,6 +15,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(TokenVersionInvalidator.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entity.users")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,9 +37,22 @@ public class User {
     @Enumerated(EnumType.STRING)
     private Role role = Role.USER;
 
+    // Carried by every issued token; incrementing it revokes all of them
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer tokenVersion = 0;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    /**
+     * Invalidates every token issued so far. Also needed whenever the role changes,
+     * since tokens carry the role they were issued with.
+     */
+    public void revokeTokens() {
+        tokenVersion = tokenVersion + 1;
+    }
+}
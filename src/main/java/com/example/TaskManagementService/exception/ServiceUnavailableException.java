@@ -0,0 +1,7 @@
+package com.example.TaskManagementService.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
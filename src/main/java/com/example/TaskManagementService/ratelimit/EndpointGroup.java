@@ -0,0 +1,44 @@
+package com.example.TaskManagementService.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Locale;
+
+/**
+ * Classes of endpoints that get their own rate limit. Each client has a separate
+ * bucket per group, so exhausting the search budget leaves the rest of the API usable.
+ */
+public enum EndpointGroup {
+
+    /** Login and registration: BCrypt on every call, and the brute-force target. */
+    AUTH,
+
+    /** Free-text search over tasks and projects. */
+    SEARCH,
+
+    /** Every other API endpoint. */
+    API;
+
+    /**
+     * The group of the request, or null for paths that are not rate limited
+     * (actuator, API docs, WebSocket handshake).
+     */
+    public static EndpointGroup of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals("/api/auth/login") || path.equals("/api/auth/register")) {
+            return AUTH;
+        }
+        if (path.equals("/api/tasks/search") || path.equals("/api/projects/search")) {
+            return SEARCH;
+        }
+        if (path.startsWith("/api/")) {
+            return API;
+        }
+        return null;
+    }
+
+    /** Name used in configuration keys, Redis keys and metric tags. */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.TaskManagementService.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link RateLimiter} with in-process buckets. Limits apply per node: behind a load
+ * balancer with N nodes a client gets up to N times the configured rate.
+ *
+ * Buckets of clients that stay quiet for longer than {@code idleExpiry} are dropped;
+ * they would be full again by then anyway, provided the expiry is at least the time a
+ * bucket takes to refill.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Map<EndpointGroup, Limit> limits;
+    private final Cache<String, TokenBucket> buckets;
+    private final LongSupplier nanoClock;
+
+    public LocalRateLimiter(Map<EndpointGroup, Limit> limits, long maximumClients, Duration idleExpiry) {
+        this(limits, maximumClients, idleExpiry, System::nanoTime);
+    }
+
+    LocalRateLimiter(Map<EndpointGroup, Limit> limits, long maximumClients, Duration idleExpiry,
+                     LongSupplier nanoClock) {
+        this.limits = Map.copyOf(limits);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumClients)
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    @Override
+    public Decision tryAcquire(EndpointGroup group, String clientKey) {
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.get(group.key() + ":" + clientKey,
+                key -> new TokenBucket(limits.get(group), now));
+        return bucket.tryConsume(now);
+    }
+
+    public Limit limitOf(EndpointGroup group) {
+        return limits.get(group);
+    }
+}
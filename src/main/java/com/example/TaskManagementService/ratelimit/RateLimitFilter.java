@@ -0,0 +1,100 @@
+package com.example.TaskManagementService.ratelimit;
+
+import com.example.TaskManagementService.dto.ErrorResponse;
+import com.example.TaskManagementService.security.AuthenticatedUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Applies the rate limit of the request's {@link EndpointGroup} in the security chain,
+ * after JWT authentication. Authenticated requests are limited per user, anonymous ones
+ * per client IP; login and registration always per IP, since a brute-force attempt
+ * spreads over many accounts.
+ *
+ * Throttled requests get {@code 429} with {@code Retry-After} and are counted in
+ * {@code http.ratelimit.throttled}; every limited response carries the
+ * {@code X-RateLimit-Limit} and {@code X-RateLimit-Remaining} headers.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || EndpointGroup.of(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        EndpointGroup group = EndpointGroup.of(request);
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(group, clientKey(group, request));
+
+        response.setHeader(LIMIT_HEADER, Long.toString(decision.limit()));
+        response.setHeader(REMAINING_HEADER, Long.toString(decision.remaining()));
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        meterRegistry.counter("http.ratelimit.throttled", "group", group.key()).increment();
+        log.debug("Rate limit exceeded: group={} path={}", group.key(), request.getRequestURI());
+
+        // Whole seconds, rounded up so that a retry at that time finds a token
+        long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                "Rate limit exceeded, retry in " + retryAfterSeconds + "s",
+                request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * The user id when authenticated, else the client IP. The IP is the remote address, which
+     * the servlet container takes from {@code X-Forwarded-For} only when the request comes from
+     * a trusted proxy ({@code server.forward-headers-strategy}); reading the header here would
+     * let any client pick its own bucket.
+     */
+    private static String clientKey(EndpointGroup group, HttpServletRequest request) {
+        if (group != EndpointGroup.AUTH) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+                return "user:" + user.id();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
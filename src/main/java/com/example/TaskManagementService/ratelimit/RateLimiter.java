@@ -0,0 +1,28 @@
+package com.example.TaskManagementService.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Token-bucket rate limiter keyed by endpoint group and client (user id or IP).
+ */
+public interface RateLimiter {
+
+    /**
+     * Bucket settings of one endpoint group: a client may burst up to {@code capacity}
+     * requests, after which it gets {@code refillPerSecond} requests per second.
+     */
+    record Limit(long capacity, double refillPerSecond) {
+    }
+
+    /**
+     * Outcome of one request. {@code retryAfter} is how long until the next token, zero
+     * when the request was allowed.
+     */
+    record Decision(boolean allowed, long limit, long remaining, Duration retryAfter) {
+    }
+
+    /**
+     * Takes one token from the client's bucket of the group.
+     */
+    Decision tryAcquire(EndpointGroup group, String clientKey);
+}
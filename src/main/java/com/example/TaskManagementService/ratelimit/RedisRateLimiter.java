@@ -0,0 +1,90 @@
+package com.example.TaskManagementService.ratelimit;
+
+import com.example.TaskManagementService.cache.RedisCircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link RateLimiter} whose buckets live in Redis, so a client's limit holds across all
+ * nodes. Each request is one script call that refills and takes a token atomically,
+ * using the Redis server clock; idle buckets expire once they would be full again.
+ *
+ * While Redis is failing, or the circuit breaker has opened, requests are limited by
+ * the node's own buckets instead of being let through unchecked.
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "rate-limit::";
+
+    // Returns {allowed (1/0), remaining tokens, milliseconds until the next token}
+    private static final RedisScript<List> TAKE_TOKEN = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local perMilli = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'at')
+            local tokens = tonumber(state[1]) or capacity
+            local at = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - at) * perMilli)
+            local allowed = 0
+            local wait = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+              allowed = 1
+            else
+              wait = math.ceil((1 - tokens) / perMilli)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'at', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / perMilli) + 1000)
+            return {allowed, math.floor(tokens), wait}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LocalRateLimiter fallback;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    /**
+     * @param circuitBreaker shared Redis breaker, or null to call Redis unconditionally
+     */
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, LocalRateLimiter fallback,
+                            RedisCircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Decision tryAcquire(EndpointGroup group, String clientKey) {
+        if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+            return fallback.tryAcquire(group, clientKey);
+        }
+
+        Limit limit = fallback.limitOf(group);
+        long start = System.nanoTime();
+        try {
+            List<?> result = redisTemplate.execute(TAKE_TOKEN,
+                    List.of(KEY_PREFIX + group.key() + "::" + clientKey),
+                    Long.toString(limit.capacity()),
+                    Double.toString(limit.refillPerSecond() / 1000d));
+            if (circuitBreaker != null) {
+                circuitBreaker.onSuccess(System.nanoTime() - start);
+            }
+            return new Decision(((Number) result.get(0)).longValue() == 1,
+                    limit.capacity(),
+                    ((Number) result.get(1)).longValue(),
+                    Duration.ofMillis(((Number) result.get(2)).longValue()));
+        } catch (RuntimeException e) {
+            if (circuitBreaker != null) {
+                circuitBreaker.onError(System.nanoTime() - start);
+            }
+            log.warn("Rate limit check in Redis failed, using local buckets: {}", e.getMessage());
+            return fallback.tryAcquire(group, clientKey);
+        }
+    }
+}
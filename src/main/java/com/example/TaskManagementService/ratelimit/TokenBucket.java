@@ -0,0 +1,44 @@
+package com.example.TaskManagementService.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. The token count and the time it was last refilled form one
+ * immutable state that is swapped with compare-and-set, so concurrent requests of the
+ * same client never block each other; a lost race only retries the arithmetic.
+ */
+public final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private record State(double tokens, long refilledAtNanos) {
+    }
+
+    private final RateLimiter.Limit limit;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(RateLimiter.Limit limit, long nowNanos) {
+        this.limit = limit;
+        this.state = new AtomicReference<>(new State(limit.capacity(), nowNanos));
+    }
+
+    public RateLimiter.Decision tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            long elapsed = Math.max(0, nowNanos - current.refilledAtNanos());
+            double refilled = elapsed * limit.refillPerSecond() / NANOS_PER_SECOND;
+            double tokens = Math.min(limit.capacity(), current.tokens() + refilled);
+            long refilledAt = Math.max(nowNanos, current.refilledAtNanos());
+
+            if (tokens < 1) {
+                if (state.compareAndSet(current, new State(tokens, refilledAt))) {
+                    long waitNanos = (long) Math.ceil((1 - tokens) * NANOS_PER_SECOND / limit.refillPerSecond());
+                    return new RateLimiter.Decision(false, limit.capacity(), 0, Duration.ofNanos(waitNanos));
+                }
+            } else if (state.compareAndSet(current, new State(tokens - 1, refilledAt))) {
+                return new RateLimiter.Decision(true, limit.capacity(), (long) (tokens - 1), Duration.ZERO);
+            }
+        }
+    }
+}
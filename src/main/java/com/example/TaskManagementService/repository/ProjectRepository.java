@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -36,4 +37,7 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             @Param("search") String search,
             Pageable pageable
     );
-}
\ No newline at end of file
+
+    @Query("SELECT p FROM Project p JOIN FETCH p.owner WHERE p.updatedAt > :since ORDER BY p.updatedAt DESC")
+    List<Project> findRecentlyUpdated(@Param("since") LocalDateTime since, Pageable pageable);
+}
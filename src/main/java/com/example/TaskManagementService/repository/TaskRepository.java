@@ -10,6 +10,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,6 +20,24 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByAssigneeId(Long assigneeId);
     List<Task> findByProjectIdAndStatus(Long projectId, TaskStatus status);
 
+    @Query("SELECT t FROM Task t " +
+            "JOIN FETCH t.project " +
+            "JOIN FETCH t.createdBy " +
+            "LEFT JOIN FETCH t.assignee " +
+            "WHERE t.id IN :ids")
+    List<Task> findAllWithRelationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t FROM Task t " +
+            "JOIN FETCH t.project " +
+            "JOIN FETCH t.createdBy " +
+            "LEFT JOIN FETCH t.assignee " +
+            "WHERE t.project.id = :projectId AND t.updatedAt > :since " +
+            "ORDER BY t.updatedAt ASC")
+    List<Task> findChangedSince(@Param("projectId") Long projectId, @Param("since") LocalDateTime since);
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id IN :projectIds ORDER BY t.updatedAt DESC")
+    List<Long> findRecentIdsByProjectIdIn(@Param("projectIds") Collection<Long> projectIds, Pageable pageable);
+
     @Query("SELECT t FROM Task t WHERE t.project.id = :projectId " +
             "AND (:status IS NULL OR t.status = :status) " +
             "AND (:priority IS NULL OR t.priority = :priority) " +
@@ -0,0 +1,121 @@
+package com.example.TaskManagementService.repository;
+
+import com.example.TaskManagementService.dto.TaskDigest;
+import com.example.TaskManagementService.entity.TaskStatus;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Streaming, read-only access to tasks for background jobs.
+ *
+ * Rows are read through a Hibernate StatelessSession with a forward-only cursor and
+ * projected straight into {@link TaskDigest}, so there is no persistence context,
+ * no dirty-checking snapshot and no lazy assignee loading. Memory stays bounded by
+ * the JDBC fetch size regardless of how many tasks match.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStreamRepository {
+
+    private static final List<TaskStatus> CLOSED_STATUSES = List.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+
+    private static final String SELECT_DIGEST =
+            "SELECT new com.example.TaskManagementService.dto.TaskDigest(" +
+                    "t.id, t.title, t.status, t.priority, t.dueDate, t.updatedAt, a.email, a.fullName) ";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${tasks.streaming.fetch-size:500}")
+    private int fetchSize = 500;
+
+    /**
+     * Open, assigned tasks due strictly between {@code from} and {@code to}.
+     */
+    public long streamOpenAssignedTasksDueBetween(LocalDateTime from, LocalDateTime to, Consumer<TaskDigest> consumer) {
+        return stream(SELECT_DIGEST +
+                        "FROM Task t JOIN t.assignee a " +
+                        "WHERE t.status NOT IN :closed AND t.dueDate > :from AND t.dueDate < :to " +
+                        "ORDER BY t.id",
+                Map.of("closed", CLOSED_STATUSES, "from", from, "to", to),
+                consumer);
+    }
+
+    /**
+     * Open, assigned tasks due before {@code before}.
+     */
+    public long streamOpenAssignedTasksDueBefore(LocalDateTime before, Consumer<TaskDigest> consumer) {
+        return stream(SELECT_DIGEST +
+                        "FROM Task t JOIN t.assignee a " +
+                        "WHERE t.status NOT IN :closed AND t.dueDate < :before " +
+                        "ORDER BY t.id",
+                Map.of("closed", CLOSED_STATUSES, "before", before),
+                consumer);
+    }
+
+    /**
+     * Completed tasks last updated before {@code cutoff}.
+     */
+    public long streamCompletedTasksUpdatedBefore(LocalDateTime cutoff, Consumer<TaskDigest> consumer) {
+        return stream(SELECT_DIGEST +
+                        "FROM Task t LEFT JOIN t.assignee a " +
+                        "WHERE t.status = :completed AND t.updatedAt < :cutoff " +
+                        "ORDER BY t.id",
+                Map.of("completed", TaskStatus.COMPLETED, "cutoff", cutoff),
+                consumer);
+    }
+
+    /**
+     * Every task.
+     */
+    public long streamAll(Consumer<TaskDigest> consumer) {
+        return stream(SELECT_DIGEST + "FROM Task t LEFT JOIN t.assignee a ORDER BY t.id", Map.of(), consumer);
+    }
+
+    private long stream(String hql, Map<String, Object> parameters, Consumer<TaskDigest> consumer) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        long count = 0;
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            // PostgreSQL only honours the fetch size (server-side cursor) outside auto-commit
+            Transaction transaction = session.beginTransaction();
+            try {
+                SelectionQuery<TaskDigest> query = session.createSelectionQuery(hql, TaskDigest.class)
+                        .setFetchSize(fetchSize)
+                        .setReadOnly(true);
+                parameters.forEach(query::setParameter);
+
+                try (ScrollableResults<TaskDigest> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                    while (results.next()) {
+                        consumer.accept(results.get());
+                        count++;
+                    }
+                }
+
+                transaction.commit();
+            } catch (RuntimeException ex) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw ex;
+            }
+        }
+
+        log.debug("Streamed {} tasks (fetch size {})", count, fetchSize);
+        return count;
+    }
+}
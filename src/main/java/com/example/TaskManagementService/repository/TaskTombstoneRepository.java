@@ -0,0 +1,20 @@
+package com.example.TaskManagementService.repository;
+
+import com.example.TaskManagementService.entity.TaskTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+    List<TaskTombstone> findByProjectIdAndDeletedAtAfterOrderByDeletedAtAsc(Long projectId, LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteByDeletedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
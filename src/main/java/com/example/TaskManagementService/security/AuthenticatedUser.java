@@ -0,0 +1,49 @@
+package com.example.TaskManagementService.security;
+
+import com.example.TaskManagementService.entity.Role;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lightweight principal of a JWT-authenticated request, built from the token's claims.
+ * Carries what controllers and services need to identify the caller without loading
+ * the user entity (and its password hash).
+ */
+public record AuthenticatedUser(Long id, String email, String fullName, Role role) implements UserDetails {
+
+    /**
+     * Builds the principal from verified token claims, or returns null when the token
+     * predates the user id, role and version claims.
+     */
+    public static AuthenticatedUser fromClaims(Claims claims) {
+        Long id = claims.get(JwtUtil.CLAIM_USER_ID, Long.class);
+        String role = claims.get(JwtUtil.CLAIM_ROLE, String.class);
+        if (id == null || role == null || claims.getSubject() == null) {
+            return null;
+        }
+        return new AuthenticatedUser(id, claims.getSubject(), claims.get(JwtUtil.CLAIM_NAME, String.class),
+                Role.valueOf(role));
+    }
+
+    /** The role as {@code ROLE_<role>}, so it can be checked with {@code hasRole}. */
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    /** Token-authenticated principals carry no credentials. */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.TaskManagementService.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * {@link RevokedTokenStore} of a single node, used when Redis is not configured.
+ * Revocations are not shared, so there are no other nodes to hear from.
+ */
+public class InMemoryRevokedTokenStore implements RevokedTokenStore {
+
+    private final Cache<String, Instant> revoked = Caffeine.newBuilder()
+            .expireAfter(new UntilTokenExpiry())
+            .build();
+
+    @Override
+    public void revoke(String tokenId, Duration ttl) {
+        revoked.put(tokenId, Instant.now().plus(ttl));
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return revoked.getIfPresent(tokenId) != null;
+    }
+
+    @Override
+    public void forEachRevoked(Consumer<String> action) {
+        revoked.asMap().keySet().forEach(action);
+    }
+
+    @Override
+    public void onRevocation(Consumer<String> listener) {
+    }
+
+    // An entry is kept exactly as long as the revoked token would still be accepted
+    private static class UntilTokenExpiry implements Expiry<String, Instant> {
+
+        @Override
+        public long expireAfterCreate(String tokenId, Instant expiresAt, long currentTime) {
+            return Math.max(Duration.between(Instant.now(), expiresAt).toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenId, Instant expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String tokenId, Instant expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,54 +1,154 @@
 package com.example.TaskManagementService.security;
 
+import com.example.TaskManagementService.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_NAME = "name";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private int verifiedCacheSize = 10_000;
+
+    /**
+     * Signing key, parser and the cache of verified tokens, built once on first use
+     * (after the injected settings are in place).
+     */
+    private record Verifier(SecretKey key, JwtParser parser, Cache<String, Claims> verifiedTokens) {
     }
 
-    public String generateToken(String email) {
+    private volatile Verifier verifier;
+
+    /**
+     * Issues a token that identifies the user on its own: besides the email subject it
+     * carries the user id, name, role and current token version, and a random id by which
+     * the token alone can be revoked.
+     */
+    public String generateToken(User user) {
         return Jwts.builder()
-                .subject(email)
+                .id(UUID.randomUUID().toString())
+                .subject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_NAME, user.getFullName())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(verifier().key())
                 .compact();
     }
 
+    /**
+     * Verifies the token and returns its claims. Tokens verified before are answered from a
+     * bounded cache keyed by the token's SHA-256 until they expire, skipping parsing and the
+     * signature check.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims parseClaims(String token) {
+        Verifier current = verifier();
+        String tokenHash = sha256(token);
+
+        Claims cached = current.verifiedTokens().getIfPresent(tokenHash);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+
+        Claims claims = current.parser().parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() != null) {
+            current.verifiedTokens().put(tokenHash, claims);
+        }
+        return claims;
+    }
+
     public String extractEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (Exception e) {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    private Verifier verifier() {
+        Verifier current = verifier;
+        if (current == null) {
+            synchronized (this) {
+                current = verifier;
+                if (current == null) {
+                    SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+                    current = new Verifier(key, Jwts.parser().verifyWith(key).build(), Caffeine.newBuilder()
+                            .maximumSize(verifiedCacheSize)
+                            .expireAfter(new UntilTokenExpiry())
+                            .build());
+                    verifier = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration().getTime() <= System.currentTimeMillis();
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Cached claims never outlive the token they came from
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
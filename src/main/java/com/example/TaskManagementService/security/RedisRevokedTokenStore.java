@@ -0,0 +1,79 @@
+package com.example.TaskManagementService.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * {@link RevokedTokenStore} in Redis: one key per revoked token id that expires with the
+ * token, plus a pub/sub channel announcing each revocation to every node.
+ */
+@Slf4j
+public class RedisRevokedTokenStore implements RevokedTokenStore, MessageListener {
+
+    private static final String KEY_PREFIX = "revoked-token::";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisRevokedTokenStore(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public void revoke(String tokenId, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", ttl);
+        try {
+            redisTemplate.convertAndSend(channel, tokenId);
+        } catch (Exception ex) {
+            // Other nodes still find the key on their next filter rebuild
+            log.warn("Failed to broadcast token revocation", ex);
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    @Override
+    public void forEachRevoked(Consumer<String> action) {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                    action.accept(key.substring(KEY_PREFIX.length()));
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void onRevocation(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String tokenId = new String(message.getBody(), StandardCharsets.UTF_8);
+        listeners.forEach(listener -> listener.accept(tokenId));
+    }
+}
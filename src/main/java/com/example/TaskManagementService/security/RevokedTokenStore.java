@@ -0,0 +1,28 @@
+package com.example.TaskManagementService.security;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Authoritative record of revoked token ids. Entries only need to live until the token
+ * would have expired anyway.
+ */
+public interface RevokedTokenStore {
+
+    /**
+     * Records the token id as revoked for {@code ttl} and tells the other nodes about it.
+     */
+    void revoke(String tokenId, Duration ttl);
+
+    boolean isRevoked(String tokenId);
+
+    /**
+     * Visits every token id that is currently revoked.
+     */
+    void forEachRevoked(Consumer<String> action);
+
+    /**
+     * Registers a listener for token ids revoked on other nodes.
+     */
+    void onRevocation(Consumer<String> listener);
+}
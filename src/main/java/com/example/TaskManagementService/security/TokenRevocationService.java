@@ -0,0 +1,145 @@
+package com.example.TaskManagementService.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Revocation of single tokens by their id ({@code jti}).
+ *
+ * The revoked ids live in the {@link RevokedTokenStore} (Redis when configured). Each
+ * node keeps a Bloom filter of them, fed by the store's revocation messages and rebuilt
+ * from the store periodically, which also forgets expired ids. A token the filter has
+ * never seen is answered in memory; only filter hits are confirmed with the store.
+ *
+ * Until the first rebuild succeeds the filter may be missing revocations, so every check
+ * goes to the store. If the store fails on a filter hit the token is treated as revoked;
+ * if it fails before the filter is ready, the token is let through, since the
+ * alternative is rejecting every request.
+ */
+@Component
+@Slf4j
+public class TokenRevocationService {
+
+    private final RevokedTokenStore store;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    private volatile boolean complete;
+
+    private final Counter notRevoked;
+    private final Counter revoked;
+    private final Counter falsePositives;
+    private final Counter unverified;
+    private final AtomicLong filteredIds = new AtomicLong();
+
+    public TokenRevocationService(ObjectProvider<RevokedTokenStore> store,
+                                  @Value("${security.revocation.bloom.expected-revocations:100000}") long expectedRevocations,
+                                  @Value("${security.revocation.bloom.false-positive-rate:0.001}") double falsePositiveRate,
+                                  MeterRegistry registry) {
+        this.store = store.getIfAvailable(InMemoryRevokedTokenStore::new);
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = BloomFilter.create(expectedRevocations, falsePositiveRate);
+        this.notRevoked = checkCounter("bloom_negative", registry);
+        this.revoked = checkCounter("revoked", registry);
+        this.falsePositives = checkCounter("false_positive", registry);
+        this.unverified = checkCounter("unverified", registry);
+        registry.gauge("auth.revocation.bloom.size", filteredIds);
+        this.store.onRevocation(this::remember);
+    }
+
+    /**
+     * Revokes the token until it expires. Does nothing for a token that has already expired.
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        store.revoke(tokenId, ttl);
+        remember(tokenId);
+        log.info("Revoked token id={} until {}", tokenId, expiresAt);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        boolean ready = complete;
+        if (ready && !filter.mightContain(tokenId)) {
+            notRevoked.increment();
+            return false;
+        }
+
+        try {
+            if (store.isRevoked(tokenId)) {
+                revoked.increment();
+                return true;
+            }
+            if (ready) {
+                falsePositives.increment();
+            }
+            return false;
+        } catch (RuntimeException e) {
+            unverified.increment();
+            log.warn("Token revocation check failed: {}", e.getMessage());
+            return ready;
+        }
+    }
+
+    /**
+     * Replaces the filter with one built from the store, dropping ids whose tokens have
+     * expired. Revocations arriving meanwhile go into both filters.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${security.revocation.rebuild-interval:PT10M}",
+            initialDelayString = "${security.revocation.rebuild-interval:PT10M}")
+    public synchronized void rebuild() {
+        BloomFilter next = BloomFilter.create(expectedRevocations, falsePositiveRate);
+        AtomicLong count = new AtomicLong();
+        rebuilding = next;
+        try {
+            store.forEachRevoked(tokenId -> {
+                next.put(tokenId);
+                count.incrementAndGet();
+            });
+            filter = next;
+            complete = true;
+            filteredIds.set(count.get());
+            if (count.get() > expectedRevocations) {
+                log.warn("{} revoked tokens exceed the Bloom filter's expected {}; raise "
+                        + "security.revocation.bloom.expected-revocations", count.get(), expectedRevocations);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Rebuilding the token revocation filter failed: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void remember(String tokenId) {
+        filter.put(tokenId);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(tokenId);
+        }
+        filteredIds.incrementAndGet();
+    }
+
+    private static Counter checkCounter(String result, MeterRegistry registry) {
+        return Counter.builder("auth.revocation.checks")
+                .description("Token revocation checks by outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+}
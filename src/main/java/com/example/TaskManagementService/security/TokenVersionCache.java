@@ -0,0 +1,44 @@
+package com.example.TaskManagementService.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * In-process cache of each user's current token version, keyed by user id.
+ *
+ * Tokens carry the version they were issued with; bumping the user's version revokes
+ * all of them. Checking a token then costs a map lookup instead of a user lookup. Entries
+ * are dropped when the user entity changes on this node; other nodes pick up the change
+ * when their entry expires, so the TTL bounds how long a revoked token keeps working there.
+ */
+@Component
+public class TokenVersionCache {
+
+    private final Cache<Long, Integer> versions;
+
+    public TokenVersionCache(@Value("${security.token-version-cache.ttl:30s}") Duration ttl,
+                             @Value("${security.token-version-cache.maximum-size:10000}") long maximumSize) {
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Whether {@code tokenVersion} is the user's current version, loading it on a miss.
+     * A loader returning null (unknown user) is not cached and fails the check.
+     */
+    public boolean isCurrent(Long userId, int tokenVersion, Function<Long, Integer> loader) {
+        Integer current = versions.get(userId, loader);
+        return current != null && current == tokenVersion;
+    }
+
+    public void invalidate(Long userId) {
+        versions.invalidate(userId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.TaskManagementService.security;
+
+import com.example.TaskManagementService.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JPA listener on {@link User} that drops the cached token version whenever the user is
+ * updated or deleted. Hibernate obtains it from Spring's bean container, which injects
+ * the cache.
+ */
+@RequiredArgsConstructor
+public class TokenVersionInvalidator {
+
+    private final TokenVersionCache tokenVersionCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        tokenVersionCache.invalidate(user.getId());
+    }
+}
@@ -9,10 +9,18 @@ import com.example.TaskManagementService.exception.DuplicateResourceException;
 import com.example.TaskManagementService.exception.ResourceNotFoundException;
 import com.example.TaskManagementService.repository.UserRepository;
 import com.example.TaskManagementService.security.JwtUtil;
+import com.example.TaskManagementService.security.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -22,7 +30,11 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final CacheManager cacheManager;
+    private final TokenRevocationService tokenRevocationService;
 
+    // A login attempt before registering may have recorded the email as not found
+    @CacheEvict(value = "users", key = "#request.email")
     public AuthResponse register(RegisterRequest request) {
         log.info("Register request received for email={}", request.getEmail());
 
@@ -39,7 +51,7 @@ public class AuthService {
         userRepository.save(user);
         log.info("User registered successfully with email={}", user.getEmail());
 
-        String token = jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user);
         log.debug("JWT generated successfully for email={}", user.getEmail());
 
         return new AuthResponse(token, user.getEmail(), user.getFullName());
@@ -59,9 +71,71 @@ public class AuthService {
             throw new BadRequestException("Invalid credentials");
         }
 
-        String token = jwtUtil.generateToken(user.getEmail());
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            rehashPassword(user, request.getPassword());
+        }
+
+        String token = jwtUtil.generateToken(user);
         log.info("Login successful for email={}", user.getEmail());
 
         return new AuthResponse(token, user.getEmail(), user.getFullName());
     }
+
+    /**
+     * Stores the password again at the current BCrypt cost. The raw password is only known
+     * at login, so this is how existing users move to a higher cost.
+     *
+     * Only the hash column is written: the user may come from the cache, and saving that copy
+     * would put back whatever it holds, e.g. a token version revoked since it was cached.
+     */
+    private void rehashPassword(User user, String rawPassword) {
+        userRepository.updatePassword(user.getId(), passwordEncoder.encode(rawPassword));
+
+        // The cached user still has the old hash and would be rehashed again on every login
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictUser(user.getEmail());
+                }
+            });
+        } else {
+            evictUser(user.getEmail());
+        }
+        log.info("Rehashed password at the current cost for email={}", user.getEmail());
+    }
+
+    private void evictUser(String email) {
+        Cache users = cacheManager.getCache("users");
+        if (users != null) {
+            users.evict(email);
+        }
+    }
+
+    /**
+     * Revokes the given token only; the user's other sessions stay signed in.
+     */
+    public void logout(String token) {
+        Claims claims = jwtUtil.parseClaims(token);
+        if (claims.getId() == null) {
+            throw new BadRequestException("Token cannot be revoked individually, use logout-all");
+        }
+        tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+        log.info("Logout for email={}", claims.getSubject());
+    }
+
+    /**
+     * Revokes every token issued to the user so far, on all nodes within the token-version cache TTL.
+     */
+    // The cached user still carries the old version, which the next login would put in its token
+    @CacheEvict(value = "users", key = "#email")
+    @Transactional
+    public void revokeTokens(Long userId, String email) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        user.revokeTokens();
+        userRepository.save(user);
+        log.info("Revoked all tokens of user id={} (token version {})", userId, user.getTokenVersion());
+    }
 }
@@ -0,0 +1,153 @@
+package com.example.TaskManagementService.service;
+
+import com.example.TaskManagementService.cache.ForwardingCache;
+import com.example.TaskManagementService.cache.RedisBatchCache;
+import com.example.TaskManagementService.cache.TwoTierCache;
+import com.example.TaskManagementService.exception.BadRequestException;
+import com.example.TaskManagementService.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Deletes the Redis entries of a cache whose keys start with a prefix, in the background.
+ *
+ * Purges run one at a time on a dedicated thread and delete in small SCAN/UNLINK batches
+ * with a pause in between, so a large purge costs Redis many short commands instead of
+ * one long one. L1 copies of deleted entries are dropped on every node as batches complete.
+ * The most recent jobs are kept so their progress can be polled.
+ */
+@Service
+@Slf4j
+public class CachePurgeService {
+
+    private static final int RETAINED_JOBS = 50;
+
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    public record PurgeStatus(String id,
+                              String cacheName,
+                              String keyPrefix,
+                              State state,
+                              long scanned,
+                              long deleted,
+                              Instant startedAt,
+                              Instant finishedAt,
+                              String error) {
+    }
+
+    private final CacheManager cacheManager;
+    private final Executor executor;
+    private final int batchSize;
+    private final Duration batchPause;
+
+    private final Map<String, PurgeStatus> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PurgeStatus> eldest) {
+            return size() > RETAINED_JOBS;
+        }
+    };
+
+    @Autowired
+    public CachePurgeService(CacheManager cacheManager,
+                             @Value("${cache.purge.batch-size:500}") int batchSize,
+                             @Value("${cache.purge.batch-pause:5ms}") Duration batchPause) {
+        this(cacheManager, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-purge");
+            thread.setDaemon(true);
+            return thread;
+        }), batchSize, batchPause);
+    }
+
+    CachePurgeService(CacheManager cacheManager, Executor executor, int batchSize, Duration batchPause) {
+        this.cacheManager = cacheManager;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+    }
+
+    /**
+     * Queues a purge of the entries of {@code cacheName} whose keys start with {@code keyPrefix}.
+     */
+    public PurgeStatus startPurge(String cacheName, String keyPrefix) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new ResourceNotFoundException("Cache not found: " + cacheName);
+        }
+        RedisBatchCache redis = ForwardingCache.unwrap(cache, RedisBatchCache.class);
+        if (redis == null) {
+            throw new BadRequestException("Cache '" + cacheName + "' is not stored in Redis");
+        }
+        TwoTierCache twoTier = ForwardingCache.unwrap(cache, TwoTierCache.class);
+
+        String prefix = keyPrefix != null ? keyPrefix : "";
+        PurgeStatus queued = new PurgeStatus(UUID.randomUUID().toString(), cacheName, prefix, State.QUEUED,
+                0, 0, null, null, null);
+        update(queued);
+
+        executor.execute(() -> purge(queued, redis, twoTier));
+        return queued;
+    }
+
+    public Optional<PurgeStatus> getStatus(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void purge(PurgeStatus queued, RedisBatchCache redis, TwoTierCache twoTier) {
+        String id = queued.id();
+        Instant startedAt = Instant.now();
+        update(new PurgeStatus(id, queued.cacheName(), queued.keyPrefix(), State.RUNNING,
+                0, 0, startedAt, null, null));
+        log.info("Purging entries of cache '{}' with prefix '{}'", queued.cacheName(), queued.keyPrefix());
+
+        long[] progress = new long[2];
+        try {
+            redis.purge(queued.keyPrefix(), batchSize, batchPause, (scanned, deleted, deletedKeys) -> {
+                if (twoTier != null) {
+                    twoTier.evictLocalEverywhere(deletedKeys);
+                }
+                progress[0] = scanned;
+                progress[1] = deleted;
+                update(new PurgeStatus(id, queued.cacheName(), queued.keyPrefix(), State.RUNNING,
+                        scanned, deleted, startedAt, null, null));
+            });
+            update(new PurgeStatus(id, queued.cacheName(), queued.keyPrefix(), State.COMPLETED,
+                    progress[0], progress[1], startedAt, Instant.now(), null));
+            log.info("Purged {} entries of cache '{}' with prefix '{}'",
+                    progress[1], queued.cacheName(), queued.keyPrefix());
+        } catch (RuntimeException ex) {
+            log.error("Purge of cache '{}' with prefix '{}' failed", queued.cacheName(), queued.keyPrefix(), ex);
+            update(new PurgeStatus(id, queued.cacheName(), queued.keyPrefix(), State.FAILED,
+                    progress[0], progress[1], startedAt, Instant.now(), ex.getMessage()));
+        }
+    }
+
+    private void update(PurgeStatus status) {
+        synchronized (jobs) {
+            jobs.put(status.id(), status);
+        }
+    }
+}
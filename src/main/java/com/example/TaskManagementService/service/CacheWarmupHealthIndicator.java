@@ -0,0 +1,23 @@
+package com.example.TaskManagementService.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports OUT_OF_SERVICE while the startup cache warm-up runs. Part of the readiness
+ * group, so the node receives no traffic until its caches are warm or the timeout elapses.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmupService cacheWarmupService;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = cacheWarmupService.isFinished() ? Health.up() : Health.outOfService();
+        return builder.withDetails(cacheWarmupService.getDetails()).build();
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.TaskManagementService.service;
+
+import com.example.TaskManagementService.entity.Project;
+import com.example.TaskManagementService.entity.User;
+import com.example.TaskManagementService.repository.ProjectRepository;
+import com.example.TaskManagementService.repository.TaskRepository;
+import com.example.TaskManagementService.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Preloads the caches with recently active projects, their tasks and active users
+ * right after startup, before the readiness probe reports UP.
+ *
+ * Entries are loaded through the cached service methods, so a new node fills its L1
+ * from Redis and only entries missing there reach the database. Recency is based on
+ * {@code updatedAt}. Loads run in parallel; whatever has not finished when the timeout
+ * elapses is abandoned and the node becomes ready anyway.
+ */
+@Service
+@Slf4j
+public class CacheWarmupService {
+
+    private static final int TASK_BATCH_SIZE = 100;
+
+    public enum State { PENDING, RUNNING, COMPLETED, TIMED_OUT, FAILED, DISABLED }
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final boolean enabled;
+    private final Duration lookback;
+    private final int maxProjects;
+    private final int maxTasks;
+    private final int maxUsers;
+    private final int parallelism;
+    private final Duration timeout;
+
+    private volatile State state = State.PENDING;
+    private volatile long startedAtNanos;
+    private volatile long durationMillis;
+    private final AtomicInteger projectsLoaded = new AtomicInteger();
+    private final AtomicInteger tasksLoaded = new AtomicInteger();
+    private final AtomicInteger usersLoaded = new AtomicInteger();
+    private final AtomicLong failures = new AtomicLong();
+
+    public CacheWarmupService(ProjectRepository projectRepository,
+                              TaskRepository taskRepository,
+                              UserRepository userRepository,
+                              ProjectService projectService,
+                              TaskService taskService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${cache.warmup.enabled:true}") boolean enabled,
+                              @Value("${cache.warmup.lookback:7d}") Duration lookback,
+                              @Value("${cache.warmup.max-projects:200}") int maxProjects,
+                              @Value("${cache.warmup.max-tasks:2000}") int maxTasks,
+                              @Value("${cache.warmup.max-users:500}") int maxUsers,
+                              @Value("${cache.warmup.parallelism:8}") int parallelism,
+                              @Value("${cache.warmup.timeout:60s}") Duration timeout) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.projectService = projectService;
+        this.taskService = taskService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.lookback = lookback;
+        this.maxProjects = maxProjects;
+        this.maxTasks = maxTasks;
+        this.maxUsers = maxUsers;
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Starts the warm-up once the context is refreshed; the web server is already listening
+     * then, so probes can observe readiness while it runs.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void onApplicationStarted() {
+        if (!enabled) {
+            state = State.DISABLED;
+            return;
+        }
+        Thread thread = new Thread(this::warmUp, "cache-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void warmUp() {
+        startedAtNanos = System.nanoTime();
+        state = State.RUNNING;
+        log.info("Cache warm-up started (lookback: {}, timeout: {})", lookback, timeout);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            LocalDateTime since = LocalDateTime.now().minus(lookback);
+
+            // Project id -> owner; getProjectById checks access, which the owner always has
+            Map<Long, User> projects = readOnlyTransaction.execute(status -> {
+                Map<Long, User> owners = new LinkedHashMap<>();
+                for (Project project : projectRepository.findRecentlyUpdated(
+                        since, PageRequest.of(0, maxProjects))) {
+                    owners.put(project.getId(), project.getOwner());
+                }
+                return owners;
+            });
+
+            Set<String> users = new LinkedHashSet<>();
+            projects.values().forEach(owner -> users.add(owner.getEmail()));
+            users.addAll(userRepository.findRecentlyUpdatedEmails(since, PageRequest.of(0, maxUsers)));
+
+            List<Long> taskIds = projects.isEmpty()
+                    ? List.of()
+                    : taskRepository.findRecentIdsByProjectIdIn(new ArrayList<>(projects.keySet()), PageRequest.of(0, maxTasks));
+
+            projects.forEach((id, owner) -> executor.execute(() -> load(() -> {
+                projectService.getProjectById(id, owner.getId());
+                projectsLoaded.incrementAndGet();
+            })));
+
+            users.forEach(email -> executor.execute(() -> load(() -> {
+                userRepository.findByEmail(email);
+                projectService.getUserProjects(email);
+                usersLoaded.incrementAndGet();
+            })));
+
+            // Batched so cached tasks are read with one multi-get and misses with one query
+            for (int from = 0; from < taskIds.size(); from += TASK_BATCH_SIZE) {
+                List<Long> batch = new ArrayList<>(taskIds.subList(from, Math.min(from + TASK_BATCH_SIZE, taskIds.size())));
+                executor.execute(() -> load(() -> tasksLoaded.addAndGet(taskService.getTasksByIds(batch).size())));
+            }
+
+            executor.shutdown();
+            long remainingNanos = timeout.toNanos() - (System.nanoTime() - startedAtNanos);
+            if (executor.awaitTermination(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS)) {
+                state = State.COMPLETED;
+            } else {
+                state = State.TIMED_OUT;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            state = State.FAILED;
+        } catch (RuntimeException ex) {
+            log.error("Cache warm-up failed", ex);
+            state = State.FAILED;
+        } finally {
+            executor.shutdownNow();
+            durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+        }
+
+        log.info("Cache warm-up {} in {} ms: {} projects, {} tasks, {} users, {} failed loads",
+                state, durationMillis, projectsLoaded.get(), tasksLoaded.get(), usersLoaded.get(), failures.get());
+    }
+
+    /**
+     * Whether the node may receive traffic: warm-up is over, or has run for longer than the timeout.
+     */
+    public boolean isFinished() {
+        return switch (state) {
+            case PENDING -> false;
+            case RUNNING -> System.nanoTime() - startedAtNanos > timeout.toNanos();
+            default -> true;
+        };
+    }
+
+    public Map<String, Object> getDetails() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("state", state);
+        details.put("projects", projectsLoaded.get());
+        details.put("tasks", tasksLoaded.get());
+        details.put("users", usersLoaded.get());
+        details.put("failures", failures.get());
+        if (state != State.PENDING && state != State.RUNNING && state != State.DISABLED) {
+            details.put("durationMs", durationMillis);
+        }
+        return details;
+    }
+
+    private void load(Runnable loader) {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> loader.run());
+        } catch (RuntimeException ex) {
+            // A deleted or inaccessible entity must not stop the rest of the warm-up
+            failures.incrementAndGet();
+            log.debug("Cache warm-up load failed", ex);
+        }
+    }
+}
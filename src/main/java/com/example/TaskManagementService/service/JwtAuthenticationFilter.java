@@ -1,6 +1,11 @@
 package com.example.TaskManagementService.service;
 
+import com.example.TaskManagementService.repository.UserRepository;
+import com.example.TaskManagementService.security.AuthenticatedUser;
 import com.example.TaskManagementService.security.JwtUtil;
+import com.example.TaskManagementService.security.TokenRevocationService;
+import com.example.TaskManagementService.security.TokenVersionCache;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -9,8 +14,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,21 +24,23 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final TokenVersionCache tokenVersionCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserRepository userRepository;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
-        String jwt = null;
-        String email = null;
+        Claims claims = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
+            String jwt = authHeader.substring(7);
 
             try {
-                email = jwtUtil.extractEmail(jwt);
+                // Verified once; the claims carry everything the request needs
+                claims = jwtUtil.parseClaims(jwt);
             } catch (ExpiredJwtException e) {
                 // token expired — do not authenticate user
                 logger.info("JWT token expired");
@@ -44,11 +49,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         }
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtUtil.validateToken(jwt)) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Everything comes from the verified claims; only the revocation check may
+            // need a lookup, and only when the user's version isn't cached on this node
+            AuthenticatedUser principal = AuthenticatedUser.fromClaims(claims);
+            Integer tokenVersion = claims.get(JwtUtil.CLAIM_TOKEN_VERSION, Integer.class);
+            if (principal != null && tokenVersion != null
+                    && tokenVersionCache.isCurrent(principal.id(), tokenVersion, this::loadTokenVersion)
+                    && !isRevoked(claims)) {
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
@@ -56,4 +66,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // Almost always answered by the in-memory Bloom filter
+    private boolean isRevoked(Claims claims) {
+        return claims.getId() != null && tokenRevocationService.isRevoked(claims.getId());
+    }
+
+    private Integer loadTokenVersion(Long userId) {
+        return userRepository.findTokenVersionById(userId).orElse(null);
+    }
+}
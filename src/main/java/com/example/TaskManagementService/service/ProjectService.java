@@ -1,5 +1,8 @@
 package com.example.TaskManagementService.service;
 
+import com.example.TaskManagementService.cache.CacheInvalidator;
+import com.example.TaskManagementService.cache.CacheTags;
+import com.example.TaskManagementService.cache.SearchResultCache;
 import com.example.TaskManagementService.dto.ProjectRequest;
 import com.example.TaskManagementService.dto.ProjectResponse;
 import com.example.TaskManagementService.dto.PagedResponse;
@@ -12,10 +15,8 @@ import com.example.TaskManagementService.repository.ProjectRepository;
 import com.example.TaskManagementService.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,7 +24,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,11 +39,12 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final WebSocketService webSocketService;
+    private final CacheInvalidator cacheInvalidator;
+    private final SearchResultCache searchResultCache;
 
+    // Also drops any not-found record for the new id
+    @CachePut(value = "projects", key = "#result.id")
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "projects", allEntries = true)
-    })
     public ProjectResponse createProject(ProjectRequest request, String userEmail) {
         log.info("Creating new project '{}' for user: {}", request.getName(), userEmail);
 
@@ -60,13 +67,17 @@ public class ProjectService {
 
         log.info("Project created successfully with ID: {} by user: {}", saved.getId(), userEmail);
 
+        // Only the owner's and members' project lists gain an entry
+        cacheInvalidator.invalidateTags(userTags(saved));
+        searchResultCache.bump(searchScopes(saved));
+
         // Send WebSocket notification
         webSocketService.sendProjectUpdateMessage(saved.getId(), "CREATE", response, userEmail);
 
         return response;
     }
 
-    @Cacheable(value = "projects", key = "'user:' + #userEmail")
+    @Cacheable(value = "projects", key = "'user:' + #userEmail", sync = true)
     public List<ProjectResponse> getUserProjects(String userEmail) {
         log.debug("Fetching all projects for user: {} (checking cache first)", userEmail);
 
@@ -81,7 +92,12 @@ public class ProjectService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Paginated project search. Pages are cached per user and normalized filters;
+     * any write to one of the user's projects moves the user to a new cache generation.
+     */
     public PagedResponse<ProjectResponse> getUserProjectsPaginated(
+            Long userId,
             String userEmail,
             ProjectStatus status,
             String search,
@@ -93,62 +109,60 @@ public class ProjectService {
         log.debug("Searching projects for user: {} with filters - status: {}, search: {}, page: {}",
                 userEmail, status, search, page);
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
-
         Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        String keyword = search != null && !search.isBlank() ? search.trim() : null;
+        String filters = "status=" + status
+                + "&search=" + (keyword != null ? keyword.toLowerCase(Locale.ROOT) : "")
+                + "&page=" + page + "&size=" + size + "&sort=" + sortBy + "," + direction;
 
-        Page<Project> projectPage = projectRepository.searchUserProjects(user.getId(), status, search, pageable);
+        return searchResultCache.get(SearchResultCache.userScope(userEmail), filters, () -> {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        List<ProjectResponse> content = projectPage.getContent().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+            Page<Project> projectPage = projectRepository.searchUserProjects(userId, status, keyword, pageable);
 
-        log.info("Retrieved {} projects (page {}/{}) for user: {}",
-                content.size(), page + 1, projectPage.getTotalPages(), userEmail);
+            List<ProjectResponse> content = projectPage.getContent().stream()
+                    .map(this::mapToResponse)
+                    .collect(Collectors.toList());
 
-        return new PagedResponse<>(content, projectPage);
+            log.info("Retrieved {} projects (page {}/{}) for user: {}",
+                    content.size(), page + 1, projectPage.getTotalPages(), userEmail);
+
+            return new PagedResponse<>(content, projectPage);
+        });
     }
 
-    @Cacheable(value = "projects", key = "#id")
-    public ProjectResponse getProjectById(Long id, String userEmail) {
-        log.debug("Fetching project with ID: {} for user: {} (checking cache first)", id, userEmail);
+    @Cacheable(value = "projects", key = "#id", sync = true)
+    public ProjectResponse getProjectById(Long id, Long userId) {
+        log.debug("Fetching project with ID: {} for user: {} (checking cache first)", id, userId);
 
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
-
-        if (!hasAccess(project, user)) {
-            log.warn("Access denied - User {} attempted to access project {}", userEmail, id);
+        if (!hasAccess(project, userId)) {
+            log.warn("Access denied - User {} attempted to access project {}", userId, id);
             throw new UnauthorizedException("You don't have access to this project");
         }
 
-        log.debug("Project {} retrieved successfully by user: {} (cached)", id, userEmail);
+        log.debug("Project {} retrieved successfully by user: {} (cached)", id, userId);
         return mapToResponse(project);
     }
 
     @Transactional
-    @Caching(
-            put = @CachePut(value = "projects", key = "#id"),
-            evict = @CacheEvict(value = "projects", key = "'user:' + #userEmail")
-    )
-    public ProjectResponse updateProject(Long id, ProjectRequest request, String userEmail) {
+    public ProjectResponse updateProject(Long id, ProjectRequest request, Long userId, String userEmail) {
         log.info("Updating project {} by user: {}", id, userEmail);
 
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
-
-        if (!project.getOwner().getId().equals(user.getId())) {
+        if (!project.getOwner().getId().equals(userId)) {
             log.warn("Unauthorized update attempt - User {} is not owner of project {}", userEmail, id);
             throw new UnauthorizedException("Only project owner can update this project");
         }
 
+        // Members removed below must stop seeing the project in their search pages too
+        Set<String> searchScopes = new LinkedHashSet<>(searchScopes(project));
+        boolean renamed = !Objects.equals(project.getName(), request.getName());
+
         project.setName(request.getName());
         project.setDescription(request.getDescription());
 
@@ -161,7 +175,19 @@ public class ProjectService {
         Project updated = projectRepository.save(project);
         ProjectResponse response = mapToResponse(updated);
 
-        log.info("Project {} updated successfully by user: {} (cache updated)", id, userEmail);
+        // Evicts the project and every list containing it, and its tasks only on rename (they show
+        // the name); newly added members' lists don't contain it yet, so their tags are added too
+        List<String> tags = new ArrayList<>(userTags(updated));
+        tags.add(renamed ? CacheTags.project(id) : CacheTags.projectTasks(id));
+        cacheInvalidator.invalidateTags(tags);
+
+        // Task pages show the project name
+        searchScopes.addAll(searchScopes(updated));
+        searchScopes.add(SearchResultCache.projectScope(id));
+        searchScopes.add(SearchResultCache.projectScope(null));
+        searchResultCache.bump(searchScopes);
+
+        log.info("Project {} updated successfully by user: {} (cache invalidated)", id, userEmail);
 
         // Send WebSocket notification
         webSocketService.sendProjectUpdateMessage(id, "UPDATE", response, userEmail);
@@ -170,21 +196,13 @@ public class ProjectService {
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "projects", key = "#id"),
-            @CacheEvict(value = "projects", key = "'user:' + #userEmail"),
-            @CacheEvict(value = "tasks", allEntries = true)
-    })
-    public void deleteProject(Long id, String userEmail) {
+    public void deleteProject(Long id, Long userId, String userEmail) {
         log.info("Deleting project {} by user: {}", id, userEmail);
 
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
-
-        if (!project.getOwner().getId().equals(user.getId())) {
+        if (!project.getOwner().getId().equals(userId)) {
             log.warn("Unauthorized delete attempt - User {} is not owner of project {}", userEmail, id);
             throw new UnauthorizedException("Only project owner can delete this project");
         }
@@ -197,13 +215,33 @@ public class ProjectService {
                 userEmail
         );
 
+        List<String> searchScopes = new ArrayList<>(searchScopes(project));
+        searchScopes.add(SearchResultCache.projectScope(id));
+        searchScopes.add(SearchResultCache.projectScope(null));
+
         projectRepository.delete(project);
+        cacheInvalidator.invalidateTags(List.of(CacheTags.project(id)));
+        searchResultCache.bump(searchScopes);
         log.info("Project {} deleted successfully by user: {} (cache cleared)", id, userEmail);
     }
 
-    private boolean hasAccess(Project project, User user) {
-        return project.getOwner().getId().equals(user.getId()) ||
-                project.getMembers().stream().anyMatch(m -> m.getId().equals(user.getId()));
+    private List<String> userTags(Project project) {
+        List<String> tags = new ArrayList<>();
+        tags.add(CacheTags.user(project.getOwner().getEmail()));
+        project.getMembers().forEach(member -> tags.add(CacheTags.user(member.getEmail())));
+        return tags;
+    }
+
+    private List<String> searchScopes(Project project) {
+        List<String> scopes = new ArrayList<>();
+        scopes.add(SearchResultCache.userScope(project.getOwner().getEmail()));
+        project.getMembers().forEach(member -> scopes.add(SearchResultCache.userScope(member.getEmail())));
+        return scopes;
+    }
+
+    private boolean hasAccess(Project project, Long userId) {
+        return project.getOwner().getId().equals(userId) ||
+                project.getMembers().stream().anyMatch(m -> m.getId().equals(userId));
     }
 
     private ProjectResponse mapToResponse(Project project) {
@@ -2,9 +2,8 @@ package com.example.TaskManagementService.service;
 
 import com.example.TaskManagementService.dto.NotificationMessage;
 import com.example.TaskManagementService.dto.TaskReminderDto;
-import com.example.TaskManagementService.entity.Task;
 import com.example.TaskManagementService.entity.TaskStatus;
-import com.example.TaskManagementService.repository.TaskRepository;
+import com.example.TaskManagementService.repository.TaskStreamRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -13,15 +12,15 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ScheduledJobsService {
-    private final TaskRepository taskRepository;
+    private final TaskStreamRepository taskStreamRepository;
     private final WebSocketService webSocketService;
+    private final TaskService taskService;
 
     /**
      * Check for upcoming task deadlines every hour
@@ -34,31 +33,20 @@ public class ScheduledJobsService {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime tomorrow = now.plusHours(24);
 
-        List<Task> allTasks = taskRepository.findAll();
-
-        List<TaskReminderDto> upcomingTasks = allTasks.stream()
-                .filter(task -> task.getDueDate() != null)
-                .filter(task -> task.getAssignee() != null)
-                .filter(task -> task.getStatus() != TaskStatus.COMPLETED)
-                .filter(task -> task.getStatus() != TaskStatus.CANCELLED)
-                .filter(task -> task.getDueDate().isAfter(now) && task.getDueDate().isBefore(tomorrow))
-                .map(task -> {
-                    long hoursUntilDue = ChronoUnit.HOURS.between(now, task.getDueDate());
-                    return new TaskReminderDto(
-                            task.getId(),
-                            task.getTitle(),
-                            task.getAssignee().getEmail(),
-                            task.getAssignee().getFullName(),
-                            task.getDueDate(),
-                            task.getPriority().toString(),
-                            hoursUntilDue
-                    );
-                })
-                .collect(Collectors.toList());
-
-        log.info("Found {} tasks due within 24 hours", upcomingTasks.size());
-
-        upcomingTasks.forEach(this::sendTaskReminder);
+        long upcomingTasks = taskStreamRepository.streamOpenAssignedTasksDueBetween(now, tomorrow, task -> {
+            long hoursUntilDue = ChronoUnit.HOURS.between(now, task.getDueDate());
+            sendTaskReminder(new TaskReminderDto(
+                    task.getId(),
+                    task.getTitle(),
+                    task.getAssigneeEmail(),
+                    task.getAssigneeName(),
+                    task.getDueDate(),
+                    task.getPriority().toString(),
+                    hoursUntilDue
+            ));
+        });
+
+        log.info("Found {} tasks due within 24 hours", upcomingTasks);
     }
 
     /**
@@ -70,19 +58,7 @@ public class ScheduledJobsService {
 
         LocalDateTime now = LocalDateTime.now();
 
-        List<Task> allTasks = taskRepository.findAll();
-
-        List<Task> overdueTasks = allTasks.stream()
-                .filter(task -> task.getDueDate() != null)
-                .filter(task -> task.getAssignee() != null)
-                .filter(task -> task.getStatus() != TaskStatus.COMPLETED)
-                .filter(task -> task.getStatus() != TaskStatus.CANCELLED)
-                .filter(task -> task.getDueDate().isBefore(now))
-                .collect(Collectors.toList());
-
-        log.info("Found {} overdue tasks", overdueTasks.size());
-
-        overdueTasks.forEach(task -> {
+        long overdueTasks = taskStreamRepository.streamOpenAssignedTasksDueBefore(now, task -> {
             long hoursOverdue = ChronoUnit.HOURS.between(task.getDueDate(), now);
 
             NotificationMessage notification = new NotificationMessage(
@@ -90,12 +66,14 @@ public class ScheduledJobsService {
                     String.format("Task '%s' is overdue by %d hours. Priority: %s",
                             task.getTitle(), hoursOverdue, task.getPriority()),
                     "ERROR",
-                    task.getAssignee().getEmail()
+                    task.getAssigneeEmail()
             );
 
-            webSocketService.sendUserNotification(task.getAssignee().getEmail(), notification);
-            log.info("Sent overdue notification for task {} to {}", task.getId(), task.getAssignee().getEmail());
+            webSocketService.sendUserNotification(task.getAssigneeEmail(), notification);
+            log.info("Sent overdue notification for task {} to {}", task.getId(), task.getAssigneeEmail());
         });
+
+        log.info("Found {} overdue tasks", overdueTasks);
     }
 
     /**
@@ -105,21 +83,27 @@ public class ScheduledJobsService {
     public void generateDailyReport() {
         log.info("Running scheduled job: Generate daily report");
 
-        List<Task> allTasks = taskRepository.findAll();
-
-        long totalTasks = allTasks.size();
-        long completedTasks = allTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.COMPLETED)
-                .count();
-        long pendingTasks = allTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.TODO ||
-                        task.getStatus() == TaskStatus.IN_PROGRESS)
-                .count();
-        long overdueTasks = allTasks.stream()
-                .filter(task -> task.getDueDate() != null)
-                .filter(task -> task.getDueDate().isBefore(LocalDateTime.now()))
-                .filter(task -> task.getStatus() != TaskStatus.COMPLETED)
-                .count();
+        LocalDateTime now = LocalDateTime.now();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong pending = new AtomicLong();
+        AtomicLong overdue = new AtomicLong();
+
+        long totalTasks = taskStreamRepository.streamAll(task -> {
+            if (task.getStatus() == TaskStatus.COMPLETED) {
+                completed.incrementAndGet();
+            }
+            if (task.getStatus() == TaskStatus.TODO || task.getStatus() == TaskStatus.IN_PROGRESS) {
+                pending.incrementAndGet();
+            }
+            if (task.getDueDate() != null && task.getDueDate().isBefore(now)
+                    && task.getStatus() != TaskStatus.COMPLETED) {
+                overdue.incrementAndGet();
+            }
+        });
+
+        long completedTasks = completed.get();
+        long pendingTasks = pending.get();
+        long overdueTasks = overdue.get();
 
         String report = String.format(
                 "📊 Daily Task Report\n\n" +
@@ -149,23 +133,24 @@ public class ScheduledJobsService {
 
         LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
 
-        List<Task> allTasks = taskRepository.findAll();
-
-        List<Task> oldCompletedTasks = allTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.COMPLETED)
-                .filter(task -> task.getUpdatedAt().isBefore(thirtyDaysAgo))
-                .collect(Collectors.toList());
-
-        log.info("Found {} completed tasks older than 30 days", oldCompletedTasks.size());
-
         // Instead of deleting, we could archive them or just log
         // For safety, we'll just log for now
-        oldCompletedTasks.forEach(task -> {
-            log.debug("Task {} '{}' completed on {} - eligible for archival",
-                    task.getId(), task.getTitle(), task.getUpdatedAt());
-        });
+        long oldCompletedTasks = taskStreamRepository.streamCompletedTasksUpdatedBefore(thirtyDaysAgo,
+                task -> log.debug("Task {} '{}' completed on {} - eligible for archival",
+                        task.getId(), task.getTitle(), task.getUpdatedAt()));
+
+        log.info("Found {} completed tasks older than 30 days", oldCompletedTasks);
 
-        log.info("Cleanup job completed. {} tasks eligible for archival", oldCompletedTasks.size());
+        log.info("Cleanup job completed. {} tasks eligible for archival", oldCompletedTasks);
+    }
+
+    /**
+     * Purge task tombstones older than the delta sync retention, daily at 3 AM
+     */
+    @Scheduled(cron = "0 0 3 * * *")  // Every day at 3 AM
+    public void purgeTaskTombstones() {
+        log.info("Running scheduled job: Purge task tombstones");
+        taskService.purgeExpiredTombstones();
     }
 
     /**
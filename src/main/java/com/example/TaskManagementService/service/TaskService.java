@@ -1,22 +1,31 @@
 package com.example.TaskManagementService.service;
 
+import com.example.TaskManagementService.cache.CacheBatchOperations;
+import com.example.TaskManagementService.cache.CacheInvalidator;
+import com.example.TaskManagementService.cache.CacheTags;
+import com.example.TaskManagementService.cache.SearchResultCache;
 import com.example.TaskManagementService.dto.NotificationMessage;
+import com.example.TaskManagementService.dto.TaskChangesResponse;
+import com.example.TaskManagementService.dto.TaskDelta;
 import com.example.TaskManagementService.dto.TaskRequest;
 import com.example.TaskManagementService.dto.TaskResponse;
 import com.example.TaskManagementService.dto.PagedResponse;
 import com.example.TaskManagementService.entity.Project;
 import com.example.TaskManagementService.entity.Task;
+import com.example.TaskManagementService.entity.TaskTombstone;
 import com.example.TaskManagementService.entity.User;
+import com.example.TaskManagementService.exception.BadRequestException;
 import com.example.TaskManagementService.exception.ResourceNotFoundException;
 import com.example.TaskManagementService.repository.ProjectRepository;
 import com.example.TaskManagementService.repository.TaskRepository;
+import com.example.TaskManagementService.repository.TaskTombstoneRepository;
 import com.example.TaskManagementService.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -24,23 +33,43 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TaskService {
+    static final int MAX_BATCH_SIZE = 100;
+
+    // Re-send rows whose updatedAt lands just before the cursor but commit after it
+    static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final WebSocketService webSocketService;  // Add this
+    private final CacheBatchOperations cacheBatchOperations;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final CacheInvalidator cacheInvalidator;
+    private final SearchResultCache searchResultCache;
+
+    @Value("${tasks.sync.tombstone-retention:7d}")
+    private Duration tombstoneRetention = Duration.ofDays(7);
 
+    // Also drops any not-found record for the new id
+    @CachePut(value = "tasks", key = "#result.id")
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", allEntries = true),
-            @CacheEvict(value = "projects", key = "#request.projectId")
-    })
     public TaskResponse createTask(TaskRequest request, String userEmail) {
         log.info("Creating new task '{}' in project {} by user: {}",
                 request.getTitle(), request.getProjectId(), userEmail);
@@ -82,6 +111,10 @@ public class TaskService {
 
         log.info("Task created successfully with ID: {} in project: {}", saved.getId(), request.getProjectId());
 
+        // Only entries showing the project's task count are affected
+        cacheInvalidator.invalidateTags(List.of(CacheTags.projectTasks(request.getProjectId())));
+        searchResultCache.bump(searchScopes(project, true));
+
         // Send WebSocket update to all project members
         webSocketService.sendTaskUpdate(request.getProjectId(), "CREATE", response, userEmail);
 
@@ -95,6 +128,49 @@ public class TaskService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Delta sync for polling clients.
+     * Returns tasks updated after the cursor plus IDs of tasks deleted since then.
+     * Without a cursor, or with one older than the tombstone retention, the full
+     * task list is returned and the client must replace its local copy.
+     */
+    public TaskChangesResponse getProjectTaskChanges(Long projectId, LocalDateTime since) {
+        LocalDateTime syncedAt = LocalDateTime.now();
+        boolean fullResync = since == null || since.isBefore(syncedAt.minus(tombstoneRetention));
+
+        if (fullResync) {
+            log.debug("Full task resync for project {} (cursor: {})", projectId, since);
+            return new TaskChangesResponse(projectId, syncedAt, true, getProjectTasks(projectId), List.of());
+        }
+
+        LocalDateTime from = since.minus(SYNC_OVERLAP);
+
+        List<TaskResponse> changed = taskRepository.findChangedSince(projectId, from).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+
+        List<Long> deletedTaskIds = taskTombstoneRepository
+                .findByProjectIdAndDeletedAtAfterOrderByDeletedAtAsc(projectId, from).stream()
+                .map(TaskTombstone::getTaskId)
+                .collect(Collectors.toList());
+
+        log.debug("Delta sync for project {} since {}: {} changed, {} deleted",
+                projectId, since, changed.size(), deletedTaskIds.size());
+
+        return new TaskChangesResponse(projectId, syncedAt, false, changed, deletedTaskIds);
+    }
+
+    @Transactional
+    public int purgeExpiredTombstones() {
+        int purged = taskTombstoneRepository.deleteByDeletedAtBefore(LocalDateTime.now().minus(tombstoneRetention));
+        log.info("Purged {} task tombstones older than {}", purged, tombstoneRetention);
+        return purged;
+    }
+
+    /**
+     * Paginated task search. Pages are cached per project and normalized filters;
+     * every task write moves the project to a new cache generation.
+     */
     public PagedResponse<TaskResponse> getProjectTasksPaginated(
             Long projectId,
             com.example.TaskManagementService.entity.TaskStatus status,
@@ -106,18 +182,25 @@ public class TaskService {
             String sortDir) {
 
         Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        String keyword = search != null && !search.isBlank() ? search.trim() : null;
+        String filters = "status=" + status + "&priority=" + priority
+                + "&search=" + (keyword != null ? keyword.toLowerCase(Locale.ROOT) : "")
+                + "&page=" + page + "&size=" + size + "&sort=" + sortBy + "," + direction;
 
-        Page<Task> taskPage = taskRepository.searchTasks(projectId, status, priority, search, pageable);
+        return searchResultCache.get(SearchResultCache.projectScope(projectId), filters, () -> {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        List<TaskResponse> content = taskPage.getContent().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+            Page<Task> taskPage = taskRepository.searchTasks(projectId, status, priority, keyword, pageable);
 
-        return new PagedResponse<>(content, taskPage);
+            List<TaskResponse> content = taskPage.getContent().stream()
+                    .map(this::mapToResponse)
+                    .collect(Collectors.toList());
+
+            return new PagedResponse<>(content, taskPage);
+        });
     }
 
-    @Cacheable(value = "tasks", key = "#id")
+    @Cacheable(value = "tasks", key = "#id", sync = true)
     public TaskResponse getTaskById(Long id) {
         log.debug("Fetching task with ID: {} (checking cache first)", id);
         Task task = taskRepository.findById(id)
@@ -125,17 +208,51 @@ public class TaskService {
         return mapToResponse(task);
     }
 
+    /**
+     * Fetch several tasks at once, preserving request order.
+     * Cached tasks are read in one multi-get; only the misses are loaded with a single
+     * IN query and written back to the cache. Unknown IDs are skipped.
+     */
+    public List<TaskResponse> getTasksByIds(List<Long> ids) {
+        Set<Long> requestedIds = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (requestedIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("At most " + MAX_BATCH_SIZE + " tasks can be fetched in one request");
+        }
+
+        Map<Object, TaskResponse> cached = cacheBatchOperations.getAll("tasks", requestedIds, TaskResponse.class);
+
+        List<Long> missingIds = requestedIds.stream()
+                .filter(id -> !cached.containsKey(id))
+                .collect(Collectors.toList());
+
+        Map<Long, TaskResponse> loaded = new HashMap<>();
+        if (!missingIds.isEmpty()) {
+            taskRepository.findAllWithRelationsByIdIn(missingIds)
+                    .forEach(task -> loaded.put(task.getId(), mapToResponse(task)));
+            cacheBatchOperations.putAll("tasks", loaded);
+        }
+
+        log.debug("Batch fetch of {} tasks: {} from cache, {} from database",
+                requestedIds.size(), cached.size(), loaded.size());
+
+        return requestedIds.stream()
+                .map(id -> cached.containsKey(id) ? cached.get(id) : loaded.get(id))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     @Transactional
-    @Caching(
-            put = @CachePut(value = "tasks", key = "#id"),
-            evict = @CacheEvict(value = "projects", allEntries = true)
-    )
+    @CachePut(value = "tasks", key = "#id")
     public TaskResponse updateTask(Long id, TaskRequest request) {
         log.info("Updating task {} - status: {}, priority: {}", id, request.getStatus(), request.getPriority());
 
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
 
+        TaskResponse before = mapToResponse(task);
         String oldStatus = task.getStatus() != null ? task.getStatus().toString() : null;
         User oldAssignee = task.getAssignee();
 
@@ -165,11 +282,18 @@ public class TaskService {
             task.setAssignee(assignee);
         }
 
-        Task updated = taskRepository.save(task);
+        // Flushed so the response carries the new version and update timestamp
+        Task updated = taskRepository.saveAndFlush(task);
         TaskResponse response = mapToResponse(updated);
-
-        // Send WebSocket update
-        webSocketService.sendTaskUpdate(task.getProject().getId(), "UPDATE", response, "system");
+        searchResultCache.bump(searchScopes(updated.getProject(), false));
+
+        // Send only the changed fields; nothing at all if the update changed nothing
+        Map<String, Object> changes = changedFields(before, response);
+        if (!changes.isEmpty()) {
+            webSocketService.sendTaskDelta(task.getProject().getId(),
+                    new TaskDelta(id, response.getProjectId(), before.getVersion(), response.getVersion(), changes),
+                    "system");
+        }
 
         // Notify on status change
         String newStatus = updated.getStatus() != null ? updated.getStatus().toString() : null;
@@ -191,27 +315,44 @@ public class TaskService {
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", key = "#id"),
-            @CacheEvict(value = "projects", allEntries = true)
-    })
+    @CacheEvict(value = "tasks", key = "#id")
     public void deleteTask(Long id) {
         log.info("Deleting task with ID: {}", id);
 
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
 
-        Long projectId = task.getProject().getId();
+        Project project = task.getProject();
+        Long projectId = project.getId();
         String taskTitle = task.getTitle();
 
         taskRepository.delete(task);
+        taskTombstoneRepository.save(new TaskTombstone(id, projectId));
+        cacheInvalidator.invalidateTags(List.of(CacheTags.projectTasks(projectId)));
+        searchResultCache.bump(searchScopes(project, true));
 
         // Send WebSocket update
         webSocketService.sendTaskUpdate(projectId, "DELETE",
-                new TaskResponse(id, taskTitle, null, projectId, null, null, null, null, null, null, null, null),
+                new TaskResponse(id, taskTitle, null, projectId, null, null, null, null, null, null, null, null,
+                        task.getVersion()),
                 "system");
     }
 
+    /**
+     * Search scopes a task write makes stale: the project's task pages and, when the
+     * task count changed, the project search pages of everyone who sees the project.
+     */
+    private List<String> searchScopes(Project project, boolean taskCountChanged) {
+        List<String> scopes = new ArrayList<>();
+        scopes.add(SearchResultCache.projectScope(project.getId()));
+        scopes.add(SearchResultCache.projectScope(null));
+        if (taskCountChanged) {
+            scopes.add(SearchResultCache.userScope(project.getOwner().getEmail()));
+            project.getMembers().forEach(member -> scopes.add(SearchResultCache.userScope(member.getEmail())));
+        }
+        return scopes;
+    }
+
     private TaskResponse mapToResponse(Task task) {
         TaskResponse.AssigneeDto assigneeDto = null;
         if (task.getAssignee() != null) {
@@ -240,7 +381,32 @@ public class TaskService {
                 task.getPriority(),
                 task.getDueDate(),
                 task.getCreatedAt(),
-                task.getUpdatedAt()
+                task.getUpdatedAt(),
+                task.getVersion()
         );
     }
+
+    /**
+     * Fields an update can change, by their TaskResponse name. The update timestamp is
+     * included only alongside a real change.
+     */
+    private static Map<String, Object> changedFields(TaskResponse before, TaskResponse after) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfChanged(changes, "title", before.getTitle(), after.getTitle());
+        putIfChanged(changes, "description", before.getDescription(), after.getDescription());
+        putIfChanged(changes, "assignee", before.getAssignee(), after.getAssignee());
+        putIfChanged(changes, "status", before.getStatus(), after.getStatus());
+        putIfChanged(changes, "priority", before.getPriority(), after.getPriority());
+        putIfChanged(changes, "dueDate", before.getDueDate(), after.getDueDate());
+        if (!changes.isEmpty()) {
+            changes.put("updatedAt", after.getUpdatedAt());
+        }
+        return changes;
+    }
+
+    private static void putIfChanged(Map<String, Object> changes, String field, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            changes.put(field, after);
+        }
+    }
 }
\ No newline at end of file
@@ -1,17 +1,43 @@
 package com.example.TaskManagementService.service;
 
 import com.example.TaskManagementService.dto.NotificationMessage;
+import com.example.TaskManagementService.dto.ProjectResponse;
+import com.example.TaskManagementService.dto.TaskDelta;
+import com.example.TaskManagementService.dto.TaskResponse;
 import com.example.TaskManagementService.dto.WebSocketMessage;
-import lombok.RequiredArgsConstructor;
+import com.example.TaskManagementService.websocket.LocalWebSocketRelay;
+import com.example.TaskManagementService.websocket.ProjectEventCoalescer;
+import com.example.TaskManagementService.websocket.WebSocketRelay;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class WebSocketService {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketRelay relay;
+    // Null when coalescing is off: every project event goes out as its own frame
+    private final ProjectEventCoalescer coalescer;
+
+    @Autowired
+    public WebSocketService(WebSocketRelay relay, ObjectProvider<ProjectEventCoalescer> coalescer) {
+        this.relay = relay;
+        this.coalescer = coalescer.getIfAvailable();
+    }
+
+    public WebSocketService(WebSocketRelay relay) {
+        this.relay = relay;
+        this.coalescer = null;
+    }
+
+    /**
+     * Sends to this node's clients only.
+     */
+    public WebSocketService(SimpMessagingTemplate messagingTemplate) {
+        this(new LocalWebSocketRelay(messagingTemplate));
+    }
 
     /**
      * Send message to all users in a specific project
@@ -21,7 +47,11 @@ public class WebSocketService {
         String destination = "/topic/project/" + projectId;
 
         log.info("Sending WebSocket message to {}: type={}, action={}", destination, type, action);
-        messagingTemplate.convertAndSend(destination, message);
+        if (coalescer != null) {
+            coalescer.add(destination, collapseKey(type, payload), message);
+        } else {
+            relay.send(destination, message);
+        }
     }
 
     /**
@@ -31,7 +61,7 @@ public class WebSocketService {
         String destination = "/queue/notifications/" + userEmail;
 
         log.info("Sending notification to user {}: {}", userEmail, notification.getTitle());
-        messagingTemplate.convertAndSend(destination, notification);
+        relay.send(destination, notification);
     }
 
     /**
@@ -41,6 +71,13 @@ public class WebSocketService {
         sendProjectUpdate(projectId, "TASK", action, taskResponse, userId);
     }
 
+    /**
+     * Send the fields changed by a task update to project subscribers
+     */
+    public void sendTaskDelta(Long projectId, TaskDelta delta, String userId) {
+        sendProjectUpdate(projectId, "TASK", "DELTA", delta, userId);
+    }
+
     /**
      * Send project update to project subscribers
      */
@@ -55,6 +92,18 @@ public class WebSocketService {
         WebSocketMessage message = new WebSocketMessage(type, "BROADCAST", payload, "SYSTEM", null);
 
         log.info("Broadcasting message: type={}", type);
-        messagingTemplate.convertAndSend("/topic/broadcast", message);
+        relay.send("/topic/broadcast", message);
+    }
+
+    // Later events about the same task or project supersede earlier ones in a batch.
+    // Deltas are never collapsed: each one builds on the version before it
+    private static Object collapseKey(String type, Object payload) {
+        if (payload instanceof TaskResponse task && task.getId() != null) {
+            return type + ":" + task.getId();
+        }
+        if (payload instanceof ProjectResponse project && project.getId() != null) {
+            return type + ":" + project.getId();
+        }
+        return null;
     }
-}
\ No newline at end of file
+}
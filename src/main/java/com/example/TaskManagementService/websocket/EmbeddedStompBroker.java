@@ -0,0 +1,53 @@
+package com.example.TaskManagementService.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
+
+/**
+ * Artemis broker running inside the application, with a STOMP acceptor for the broker
+ * relay to connect to. For local runs and tests only: it is not persistent, has no
+ * security and is not shared with other nodes.
+ *
+ * Destinations are created on first use as multicast addresses, so every subscriber of
+ * {@code /topic/...} and {@code /queue/...} receives each message, as with the simple
+ * broker.
+ */
+@Slf4j
+public class EmbeddedStompBroker implements AutoCloseable {
+
+    private final EmbeddedActiveMQ server = new EmbeddedActiveMQ();
+    private final String host;
+    private final int port;
+
+    public EmbeddedStompBroker(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    public void start() throws Exception {
+        Configuration configuration = new ConfigurationImpl()
+                .setName("embedded-stomp")
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .setJMXManagementEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://" + host + ":" + port + "?protocols=STOMP")
+                .addAddressSetting("#", new AddressSettings()
+                        .setDefaultAddressRoutingType(RoutingType.MULTICAST)
+                        .setDefaultQueueRoutingType(RoutingType.MULTICAST)
+                        .setAutoCreateAddresses(true)
+                        .setAutoDeleteAddresses(true));
+
+        server.setConfiguration(configuration);
+        server.start();
+        log.info("Embedded STOMP broker listening on {}:{}", host, port);
+    }
+
+    @Override
+    public void close() throws Exception {
+        server.stop();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.TaskManagementService.websocket;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * Single-node {@link WebSocketRelay}: hands messages straight to this node's broker, so
+ * only clients connected here receive them.
+ */
+public class LocalWebSocketRelay implements WebSocketRelay {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public LocalWebSocketRelay(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public void send(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.TaskManagementService.websocket;
+
+import com.example.TaskManagementService.dto.WebSocketMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds project events for a short window and sends them to the destination as one frame,
+ * so a bulk edit reaches browsers as a few batches instead of hundreds of frames.
+ *
+ * The window restarts with every event, but a batch never waits longer than
+ * {@code maxLatency} after its first event and is sent at once when it reaches
+ * {@code maxBatchSize}. Events with the same collapse key (the same task, say) replace
+ * each other, keeping only the latest; an update collapsed into a create stays a create.
+ *
+ * A batch of one goes out as the original message. Larger batches go out as a
+ * {@code BATCH} message whose payload is the list of events in order.
+ */
+@Slf4j
+public class ProjectEventCoalescer implements AutoCloseable {
+
+    public static final String BATCH = "BATCH";
+
+    private final WebSocketRelay relay;
+    private final long windowNanos;
+    private final long maxLatencyNanos;
+    private final int maxBatchSize;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Map<String, Buffer> buffers = new ConcurrentHashMap<>();
+
+    private final Counter events;
+    private final Counter frames;
+    private final DistributionSummary batchSize;
+
+    /**
+     * @param window quiet period after the latest event before the batch is sent
+     * @param maxLatency longest time the first event of a batch may wait
+     * @param maxBatchSize events (before collapsing) after which the batch is sent at once
+     */
+    public ProjectEventCoalescer(WebSocketRelay relay, Duration window, Duration maxLatency, int maxBatchSize,
+                                 MeterRegistry registry) {
+        this.relay = relay;
+        this.windowNanos = window.toNanos();
+        this.maxLatencyNanos = Math.max(maxLatency.toNanos(), windowNanos);
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "websocket-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+
+        this.events = Counter.builder("websocket.coalescing.events")
+                .description("Project events submitted for coalescing")
+                .register(registry);
+        this.frames = Counter.builder("websocket.coalescing.frames")
+                .description("Frames sent after coalescing")
+                .register(registry);
+        this.batchSize = DistributionSummary.builder("websocket.coalescing.batch.size")
+                .description("Events merged into each frame, before collapsing")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        Gauge.builder("websocket.coalescing.compression.ratio", this,
+                        coalescer -> coalescer.frames.count() == 0 ? 1.0
+                                : coalescer.events.count() / coalescer.frames.count())
+                .description("Project events per frame sent")
+                .register(registry);
+    }
+
+    /**
+     * Queues the event for the destination.
+     *
+     * @param collapseKey identifies the entity the event is about; {@code null} never collapses
+     */
+    public void add(String destination, Object collapseKey, WebSocketMessage message) {
+        events.increment();
+        while (true) {
+            Buffer buffer = buffers.computeIfAbsent(destination, Buffer::new);
+            synchronized (buffer) {
+                // Flushed and removed between lookup and lock; take a fresh one
+                if (buffer.retired) {
+                    continue;
+                }
+                buffer.add(collapseKey, message);
+                if (buffer.received >= maxBatchSize) {
+                    flush(buffer);
+                } else {
+                    buffer.scheduleFlush();
+                }
+                return;
+            }
+        }
+    }
+
+    private void flush(Buffer buffer) {
+        synchronized (buffer) {
+            if (buffer.retired) {
+                return;
+            }
+            buffer.retired = true;
+            buffers.remove(buffer.destination, buffer);
+            if (buffer.pending != null) {
+                buffer.pending.cancel(false);
+            }
+
+            List<WebSocketMessage> batch = new ArrayList<>(buffer.events.values());
+            frames.increment();
+            batchSize.record(buffer.received);
+            try {
+                // Sent under the lock, so batches for one destination cannot overtake each other
+                relay.send(buffer.destination, batch.size() == 1 ? batch.get(0) : toFrame(batch));
+            } catch (RuntimeException e) {
+                log.warn("Sending {} coalesced events to {} failed: {}", batch.size(), buffer.destination,
+                        e.getMessage());
+            }
+        }
+    }
+
+    private static WebSocketMessage toFrame(List<WebSocketMessage> batch) {
+        return new WebSocketMessage(BATCH, BATCH, batch, "SYSTEM", batch.get(0).getProjectId());
+    }
+
+    /**
+     * Sends whatever is still waiting and stops the timer.
+     */
+    @Override
+    public void close() {
+        buffers.values().forEach(this::flush);
+        scheduler.shutdown();
+    }
+
+    private class Buffer {
+
+        final String destination;
+        // Keyed by collapse key; events without one get a key of their own
+        final LinkedHashMap<Object, WebSocketMessage> events = new LinkedHashMap<>();
+        final long firstNanos = System.nanoTime();
+        int received;
+        ScheduledFuture<?> pending;
+        boolean retired;
+
+        Buffer(String destination) {
+            this.destination = destination;
+        }
+
+        void add(Object collapseKey, WebSocketMessage message) {
+            received++;
+            Object key = collapseKey != null ? collapseKey : new Object();
+            WebSocketMessage previous = events.remove(key);
+            if (previous != null && "CREATE".equals(previous.getAction()) && "UPDATE".equals(message.getAction())) {
+                message.setAction("CREATE");
+            }
+            // Re-inserted at the end: the entity's latest state comes after everything sent before it
+            events.put(key, message);
+        }
+
+        void scheduleFlush() {
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            long untilDeadline = maxLatencyNanos - (System.nanoTime() - firstNanos);
+            long delay = Math.max(0, Math.min(windowNanos, untilDeadline));
+            pending = scheduler.schedule(() -> flush(this), delay, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.TaskManagementService.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * {@link WebSocketRelay} for several nodes: messages are published to Redis and every
+ * node, the sending one included, relays them to its own subscribers.
+ *
+ * Project events, user notifications and broadcasts travel on separate channels. The
+ * sending node does not deliver locally first, so every node sees the events of one
+ * project in the same order, the order Redis received them. That order holds as long as
+ * the listener container dispatches messages one at a time and the broker preserves
+ * publish order per session.
+ *
+ * If publishing fails the message is delivered to this node's clients only.
+ */
+@Slf4j
+public class RedisWebSocketRelay implements WebSocketRelay, MessageListener {
+
+    private static final String PROJECT_PREFIX = "/topic/project/";
+    private static final String USER_PREFIX = "/queue/notifications/";
+
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final String projectChannel;
+    private final String userChannel;
+    private final String broadcastChannel;
+
+    public RedisWebSocketRelay(StringRedisTemplate redisTemplate,
+                               SimpMessagingTemplate messagingTemplate,
+                               ObjectMapper objectMapper,
+                               String channelPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.projectChannel = channelPrefix + "project";
+        this.userChannel = channelPrefix + "user";
+        this.broadcastChannel = channelPrefix + "broadcast";
+    }
+
+    public List<String> getChannels() {
+        return List.of(projectChannel, userChannel, broadcastChannel);
+    }
+
+    @Override
+    public void send(String destination, Object payload) {
+        try {
+            Envelope envelope = new Envelope(destination, objectMapper.valueToTree(payload));
+            redisTemplate.convertAndSend(channelFor(destination), objectMapper.writeValueAsString(envelope));
+        } catch (Exception ex) {
+            log.warn("Failed to publish WebSocket message for {}, delivering to local clients only",
+                    destination, ex);
+            messagingTemplate.convertAndSend(destination, payload);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Envelope envelope;
+        try {
+            envelope = objectMapper.readValue(message.getBody(), Envelope.class);
+        } catch (IOException ex) {
+            log.warn("Ignoring malformed WebSocket relay message", ex);
+            return;
+        }
+        messagingTemplate.convertAndSend(envelope.destination(), envelope.payload());
+    }
+
+    private String channelFor(String destination) {
+        if (destination.startsWith(PROJECT_PREFIX)) {
+            return projectChannel;
+        }
+        if (destination.startsWith(USER_PREFIX)) {
+            return userChannel;
+        }
+        return broadcastChannel;
+    }
+
+    /**
+     * Wire format: the STOMP destination and the payload as already-serialized JSON, which
+     * the receiving broker sends on unchanged.
+     */
+    record Envelope(String destination, JsonNode payload) {
+    }
+}
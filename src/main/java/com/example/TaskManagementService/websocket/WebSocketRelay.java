@@ -0,0 +1,10 @@
+package com.example.TaskManagementService.websocket;
+
+/**
+ * Delivers server-to-client STOMP messages to the subscribers of a destination,
+ * whichever node they are connected to.
+ */
+public interface WebSocketRelay {
+
+    void send(String destination, Object payload);
+}
@@ -0,0 +1,161 @@
+package com.example.TaskManagementService.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Metrics for the STOMP-over-WebSocket layer:
+ * <ul>
+ *     <li>{@code websocket.sessions.active}: open WebSocket sessions</li>
+ *     <li>{@code websocket.sessions.closed{reason}}: closed sessions, where {@code not_reliable} is a
+ *     session the server dropped for exceeding its send buffer or time limit (a slow consumer) or
+ *     for never sending a CONNECT frame</li>
+ *     <li>{@code websocket.channel.queue.depth{channel}} and {@code websocket.channel.active{channel}}:
+ *     backlog and busy threads of each channel executor</li>
+ *     <li>{@code websocket.messages.dropped{channel,reason}}: messages refused because the channel
+ *     queue was full ({@code queue_full}), or addressed to a session that is already closed
+ *     ({@code session_closed})</li>
+ * </ul>
+ */
+@Slf4j
+public class WebSocketSessionMonitor implements WebSocketHandlerDecoratorFactory {
+
+    private final MeterRegistry registry;
+    private final Set<String> openSessions = ConcurrentHashMap.newKeySet();
+    private final Counter droppedForClosedSession;
+
+    public WebSocketSessionMonitor(MeterRegistry registry) {
+        this.registry = registry;
+        this.droppedForClosedSession = droppedCounter("outbound", "session_closed");
+        Gauge.builder("websocket.sessions.active", openSessions, Set::size)
+                .description("Open WebSocket sessions")
+                .register(registry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                openSessions.add(session.getId());
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                openSessions.remove(session.getId());
+                sessionClosed(closeStatus);
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * Counts outbound messages for sessions that have gone away, which the WebSocket layer
+     * discards.
+     */
+    public ChannelInterceptor outboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+                if (sessionId != null && !openSessions.contains(sessionId)
+                        && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                    droppedForClosedSession.increment();
+                }
+                return message;
+            }
+        };
+    }
+
+    /**
+     * Publishes the executor's queue depth and busy threads, and counts the tasks it rejects
+     * once its queue is full. The rejection still fails the send.
+     */
+    public void monitor(String channel, ThreadPoolTaskExecutor executor) {
+        Counter rejected = droppedCounter(channel, "queue_full");
+        executor.setRejectedExecutionHandler(new CountingAbortPolicy(channel, rejected));
+        Gauge.builder("websocket.channel.queue.depth", executor, WebSocketSessionMonitor::queueDepth)
+                .description("Messages waiting for a channel thread")
+                .tag("channel", channel)
+                .register(registry);
+        Gauge.builder("websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Channel threads handling a message")
+                .tag("channel", channel)
+                .register(registry);
+    }
+
+    int activeSessions() {
+        return openSessions.size();
+    }
+
+    private void sessionClosed(CloseStatus closeStatus) {
+        String reason;
+        if (closeStatus.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)) {
+            reason = "not_reliable";
+        } else if (closeStatus.equalsCode(CloseStatus.NORMAL) || closeStatus.equalsCode(CloseStatus.GOING_AWAY)) {
+            reason = "normal";
+        } else {
+            reason = "other";
+        }
+        Counter.builder("websocket.sessions.closed")
+                .description("Closed WebSocket sessions by reason")
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    private Counter droppedCounter(String channel, String reason) {
+        return Counter.builder("websocket.messages.dropped")
+                .description("STOMP messages that were not delivered")
+                .tag("channel", channel)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    // Not yet initialized executors have no queue
+    private static double queueDepth(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            return 0;
+        }
+    }
+
+    private static class CountingAbortPolicy implements RejectedExecutionHandler {
+
+        private final String channel;
+        private final Counter rejected;
+
+        CountingAbortPolicy(String channel, Counter rejected) {
+            this.channel = channel;
+            this.rejected = rejected;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            rejected.increment();
+            log.warn("WebSocket {} channel is full ({} queued); dropping message", channel, executor.getQueue().size());
+            throw new RejectedExecutionException("WebSocket " + channel + " channel queue is full");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.TaskManagementService.benchmark;
+
+import com.example.TaskManagementService.cache.CompactRedisSerializer;
+import com.example.TaskManagementService.dto.TaskResponse;
+import com.example.TaskManagementService.entity.TaskPriority;
+import com.example.TaskManagementService.entity.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Size and throughput of the cache value formats for a single task and a project task list.
+ *
+ * Run manually:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.TaskManagementService.benchmark.CacheSerializerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    @Param({"1", "100"})
+    private int tasks;
+
+    @Param({"JSON_LEGACY", "SMILE", "SMILE_GZIP"})
+    private String format;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder().allowIfBaseType(Object.class).build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+
+        serializer = switch (format) {
+            case "SMILE" -> new CompactRedisSerializer(mapper, CompactRedisSerializer.Format.SMILE, 0);
+            case "SMILE_GZIP" -> new CompactRedisSerializer(mapper, CompactRedisSerializer.Format.SMILE, 2048);
+            default -> new GenericJackson2JsonRedisSerializer(mapper);
+        };
+
+        List<TaskResponse> list = new ArrayList<>();
+        for (long id = 1; id <= tasks; id++) {
+            list.add(task(id));
+        }
+        value = tasks == 1 ? list.get(0) : list;
+        encoded = serializer.serialize(value);
+
+        System.out.printf("%n[%s, %d task(s)] encoded size: %d bytes%n", format, tasks, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(encoded);
+    }
+
+    private static TaskResponse task(long id) {
+        LocalDateTime timestamp = LocalDateTime.of(2026, 1, 15, 10, 30);
+        return new TaskResponse(id, "Task " + id, "Description of task " + id, 1L, "Platform",
+                new TaskResponse.AssigneeDto(2L, "dev@test.com", "Dev User"),
+                new TaskResponse.AssigneeDto(1L, "lead@test.com", "Lead User"),
+                TaskStatus.IN_PROGRESS, TaskPriority.HIGH, timestamp.plusDays(3), timestamp, timestamp, 2L);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheSerializerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
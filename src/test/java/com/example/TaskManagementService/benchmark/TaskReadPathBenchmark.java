@@ -0,0 +1,155 @@
+package com.example.TaskManagementService.benchmark;
+
+import com.example.TaskManagementService.BaseIntegrationTest;
+import com.example.TaskManagementService.repository.TaskRepository;
+import com.example.TaskManagementService.repository.TaskStreamRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the background-job read paths on a seeded dataset: the original
+ * findAll() with lazy assignee access against the stateless streaming path.
+ *
+ * Not part of the regular test run. Execute explicitly, e.g.
+ * mvn test -Dtest=TaskReadPathBenchmark -Dbenchmark.rows=1000000
+ */
+class TaskReadPathBenchmark extends BaseIntegrationTest {
+
+    private static final int USERS = 1000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStreamRepository taskStreamRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final int rows = Integer.getInteger("benchmark.rows", 200_000);
+
+    private Long projectId;
+
+    @BeforeAll
+    void seed() {
+        inNewTransaction(() -> {
+            jdbcTemplate.update("INSERT INTO users (email, password, full_name, role, created_at, updated_at) " +
+                    "SELECT 'bench' || g || '@test.com', 'x', 'Bench User ' || g, 'USER', now(), now() " +
+                    "FROM generate_series(1, ?) g", USERS);
+
+            Long ownerId = jdbcTemplate.queryForObject(
+                    "SELECT id FROM users WHERE email = 'bench1@test.com'", Long.class);
+
+            projectId = jdbcTemplate.queryForObject("INSERT INTO projects (name, owner_id, status, created_at, updated_at) " +
+                    "VALUES ('Benchmark', ?, 'ACTIVE', now(), now()) RETURNING id", Long.class, ownerId);
+
+            jdbcTemplate.update("INSERT INTO tasks (title, description, project_id, assignee_id, created_by_id, " +
+                            "status, priority, due_date, created_at, updated_at) " +
+                            "SELECT 'Task ' || g, repeat('x', 200), ?, " +
+                            "(SELECT id FROM users WHERE email = 'bench' || (1 + g % ?) || '@test.com'), ?, " +
+                            "(ARRAY['TODO', 'IN_PROGRESS', 'COMPLETED'])[1 + g % 3], 'MEDIUM', " +
+                            "now() + (g % 96 - 48) * interval '1 hour', now(), now() " +
+                            "FROM generate_series(1, ?) g",
+                    projectId, USERS, ownerId, rows);
+        });
+    }
+
+    @AfterAll
+    void cleanUp() {
+        inNewTransaction(() -> {
+            jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", projectId);
+            jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+            jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'bench%@test.com'");
+        });
+    }
+
+    @Test
+    void compareJobReadPaths() {
+        Result entityPath = measure(() -> {
+            AtomicLong count = new AtomicLong();
+            taskRepository.findAll().forEach(task -> {
+                if (task.getAssignee() != null) {
+                    task.getAssignee().getEmail();
+                }
+                count.incrementAndGet();
+            });
+            return count.get();
+        });
+        entityManager.clear();
+
+        Result streamingPath = measure(() -> taskStreamRepository.streamAll(task -> task.getAssigneeEmail()));
+
+        System.out.printf("%nJob read path benchmark (%d tasks, %d assignees)%n", rows, USERS);
+        System.out.printf("%-28s %12s %16s %16s%n", "path", "duration ms", "allocated MB", "peak heap MB");
+        print("findAll + lazy assignee", entityPath);
+        print("stateless stream", streamingPath);
+
+        assertEquals(entityPath.rows(), streamingPath.rows());
+    }
+
+    private Result measure(LongSupplier readPath) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        System.gc();
+        AtomicLong peakHeap = new AtomicLong(memory.getHeapMemoryUsage().getUsed());
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.setDaemon(true);
+        sampler.start();
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        long count = readPath.getAsLong();
+        long durationNanos = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        running.set(false);
+        return new Result(count, durationNanos / 1_000_000, allocated, peakHeap.get());
+    }
+
+    private void print(String path, Result result) {
+        System.out.printf("%-28s %12d %16.1f %16.1f%n", path, result.durationMillis(),
+                result.allocatedBytes() / 1048576.0, result.peakHeapBytes() / 1048576.0);
+    }
+
+    private void inNewTransaction(Runnable work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.executeWithoutResult(status -> work.run());
+    }
+
+    private record Result(long rows, long durationMillis, long allocatedBytes, long peakHeapBytes) {
+    }
+}
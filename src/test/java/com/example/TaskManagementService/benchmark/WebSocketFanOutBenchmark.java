@@ -0,0 +1,287 @@
+package com.example.TaskManagementService.benchmark;
+
+import com.example.TaskManagementService.config.EmbeddedStompBrokerConfig;
+import com.example.TaskManagementService.config.WebSocketConfig;
+import com.example.TaskManagementService.config.WebSocketRelayConfig;
+import com.example.TaskManagementService.service.WebSocketService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fans project events out to many subscribers with the simple broker and with the broker
+ * relay, and reports delivery latency and the CPU the application spent on it.
+ *
+ * Each mode boots a web application with only the WebSocket configuration. Clients open
+ * {@code benchmark.sessions} STOMP sessions, together holding {@code benchmark.subscribers}
+ * subscriptions to one project topic. Latency runs from the publishing call to the
+ * client receiving the frame. CPU counts the application's own threads (broker, channel
+ * executors, Tomcat, relay TCP client) and leaves out the clients and the embedded broker.
+ *
+ * Not part of the regular test run. Execute explicitly, e.g.
+ * mvn test -Dtest=WebSocketFanOutBenchmark -Dbenchmark.subscribers=10000
+ *
+ * The relay uses the embedded Artemis broker unless {@code benchmark.broker.host} (and
+ * {@code benchmark.broker.port}) point at an external one.
+ */
+@EnabledIfSystemProperty(named = "benchmark.subscribers", matches = "\\d+")
+class WebSocketFanOutBenchmark {
+
+    private static final String TOPIC = "/topic/project/1";
+
+    // Thread name prefixes of the application side of the fan-out
+    private static final List<String> APP_THREADS = List.of(
+            "clientInboundChannel-", "clientOutboundChannel-", "brokerChannel-",
+            "MessageBroker-", "http-nio-", "reactor-tcp-");
+
+    private final int subscribers = Integer.getInteger("benchmark.subscribers");
+    private final int sessions = Integer.getInteger("benchmark.sessions", 100);
+    private final int messages = Integer.getInteger("benchmark.messages", 200);
+    private final int warmupMessages = Integer.getInteger("benchmark.warmup", 20);
+    private final long intervalMillis = Long.getLong("benchmark.interval-ms", 20);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compareSimpleBrokerAndRelay() throws Exception {
+        Result simple = run("simple");
+        Result relay = run("relay");
+
+        System.out.printf("%nFan-out of %d messages to %d subscribers over %d sessions%n",
+                messages, subscribers, sessions);
+        System.out.printf("%-8s %10s %10s %10s %12s%n", "broker", "p50 ms", "p99 ms", "max ms", "app CPU ms");
+        simple.print("simple");
+        relay.print("relay");
+    }
+
+    private Result run(String brokerMode) throws Exception {
+        String externalHost = System.getProperty("benchmark.broker.host");
+        int brokerPort = externalHost != null ? Integer.getInteger("benchmark.broker.port", 61613) : freePort();
+
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(FanOutApp.class)
+                .properties(
+                        "server.port=0",
+                        "websocket.broker.mode=" + brokerMode,
+                        "websocket.relay.mode=local",
+                        "websocket.broker.relay.host=" + (externalHost != null ? externalHost : "127.0.0.1"),
+                        "websocket.broker.relay.port=" + brokerPort,
+                        "websocket.broker.embedded.enabled=" + ("relay".equals(brokerMode) && externalHost == null))
+                .run()) {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            WebSocketService webSocketService = app.getBean(WebSocketService.class);
+
+            WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+            stompClient.setMessageConverter(new StringMessageConverter());
+            try {
+                Recorder warmup = new Recorder(warmupMessages * subscribers);
+                Recorder measured = new Recorder(messages * subscribers);
+                Recorder[] current = {warmup};
+                List<StompSession> clients = connect(stompClient, port, frame -> current[0].record(frame));
+
+                awaitSubscriptions(webSocketService, current, warmup);
+                publish(webSocketService, warmupMessages);
+                warmup.await();
+
+                current[0] = measured;
+                Map<Long, Long> cpuBefore = appThreadCpu();
+                publish(webSocketService, messages);
+                assertTrue(measured.await(), "only " + measured.count.get() + " of "
+                        + measured.latencies.length + " deliveries arrived");
+                long cpuNanos = cpuSince(cpuBefore);
+
+                clients.forEach(StompSession::disconnect);
+                return new Result(measured.sortedLatencies(), cpuNanos);
+            } finally {
+                stompClient.stop();
+            }
+        }
+    }
+
+    private List<StompSession> connect(WebSocketStompClient stompClient, int port, FrameListener listener)
+            throws Exception {
+        List<StompSession> clients = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            StompSession session = stompClient.connectAsync("ws://localhost:" + port + "/ws/websocket",
+                    new StompSessionHandlerAdapter() {
+                    }).get(30, TimeUnit.SECONDS);
+            int perSession = subscribers / sessions + (i < subscribers % sessions ? 1 : 0);
+            for (int s = 0; s < perSession; s++) {
+                session.subscribe(TOPIC, new StompFrameHandler() {
+                    @Override
+                    public Type getPayloadType(StompHeaders headers) {
+                        return String.class;
+                    }
+
+                    @Override
+                    public void handleFrame(StompHeaders headers, Object payload) {
+                        listener.onFrame((String) payload);
+                    }
+                });
+            }
+            clients.add(session);
+        }
+        return clients;
+    }
+
+    // Subscriptions reach the broker asynchronously; ping until every one of them answers
+    private void awaitSubscriptions(WebSocketService webSocketService, Recorder[] current, Recorder warmup)
+            throws Exception {
+        Recorder probe = new Recorder(subscribers);
+        current[0] = probe;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (probe.count.get() < subscribers && System.nanoTime() < deadline) {
+            probe.reset();
+            webSocketService.sendTaskUpdate(1L, "PING", System.nanoTime(), "benchmark");
+            probe.done.await(2, TimeUnit.SECONDS);
+        }
+        assertTrue(probe.count.get() >= subscribers, "subscriptions did not reach the broker in time");
+        Thread.sleep(500);
+        current[0] = warmup;
+    }
+
+    private void publish(WebSocketService webSocketService, int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            webSocketService.sendTaskUpdate(1L, "UPDATE", System.nanoTime(), "benchmark");
+            Thread.sleep(intervalMillis);
+        }
+    }
+
+    private Map<Long, Long> appThreadCpu() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Map<Long, Long> cpu = new HashMap<>();
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info != null && APP_THREADS.stream().anyMatch(info.getThreadName()::startsWith)) {
+                cpu.put(info.getThreadId(), threads.getThreadCpuTime(info.getThreadId()));
+            }
+        }
+        return cpu;
+    }
+
+    // Threads started during the run count from zero; threads that ended are lost
+    private long cpuSince(Map<Long, Long> before) {
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : appThreadCpu().entrySet()) {
+            total += Math.max(0, entry.getValue() - before.getOrDefault(entry.getKey(), 0L));
+        }
+        return total;
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface FrameListener {
+        void onFrame(String frame);
+    }
+
+    private class Recorder {
+
+        final long[] latencies;
+        final AtomicInteger count = new AtomicInteger();
+        volatile CountDownLatch done;
+
+        Recorder(int expected) {
+            this.latencies = new long[expected];
+            this.done = new CountDownLatch(expected);
+        }
+
+        void record(String frame) {
+            long receivedAt = System.nanoTime();
+            int index = count.getAndIncrement();
+            if (index >= latencies.length) {
+                return;
+            }
+            try {
+                latencies[index] = receivedAt - objectMapper.readTree(frame).get("payload").asLong();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            done.countDown();
+        }
+
+        void reset() {
+            count.set(0);
+            done = new CountDownLatch(latencies.length);
+        }
+
+        boolean await() throws InterruptedException {
+            return done.await(60, TimeUnit.SECONDS);
+        }
+
+        long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, Math.min(count.get(), latencies.length));
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    private record Result(long[] latencies, long cpuNanos) {
+
+        void print(String mode) {
+            System.out.printf("%-8s %10.2f %10.2f %10.2f %12d%n", mode,
+                    percentile(0.50), percentile(0.99), latencies[latencies.length - 1] / 1e6,
+                    TimeUnit.NANOSECONDS.toMillis(cpuNanos));
+        }
+
+        private double percentile(double p) {
+            int index = (int) Math.ceil(p * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            RedisAutoConfiguration.class,
+            RedisRepositoriesAutoConfiguration.class,
+            SecurityAutoConfiguration.class,
+            SecurityFilterAutoConfiguration.class,
+            UserDetailsServiceAutoConfiguration.class})
+    @Import({WebSocketConfig.class, EmbeddedStompBrokerConfig.class, WebSocketRelayConfig.class,
+            WebSocketService.class})
+    static class FanOutApp {
+    }
+}
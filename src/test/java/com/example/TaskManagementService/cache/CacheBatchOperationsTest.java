@@ -0,0 +1,88 @@
+package com.example.TaskManagementService.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CacheBatchOperationsTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private CacheBatchOperations batchOperations;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("tasks");
+        batchOperations = new CacheBatchOperations(providerOf(cacheManager));
+    }
+
+    @Test
+    void shouldFallBackToPerKeyLookupsForPlainCaches() {
+        cacheManager.getCache("tasks").put(1L, "one");
+        cacheManager.getCache("tasks").put(3L, "three");
+
+        Map<Object, String> found = batchOperations.getAll("tasks", List.of(1L, 2L, 3L), String.class);
+
+        assertEquals(Map.of(1L, "one", 3L, "three"), found);
+    }
+
+    @Test
+    void shouldWriteEntriesToPlainCaches() {
+        batchOperations.putAll("tasks", Map.of(1L, "one", 2L, "two"));
+
+        assertEquals("one", cacheManager.getCache("tasks").get(1L, String.class));
+        assertEquals("two", cacheManager.getCache("tasks").get(2L, String.class));
+    }
+
+    @Test
+    void shouldUseSingleRoundTripForBatchCaches() {
+        Cache batchCache = mock(Cache.class, withSettings().extraInterfaces(BatchCache.class));
+        when(((BatchCache) batchCache).getAll(any())).thenReturn(Map.<Object, Object>of(1L, "one", 2L, 42));
+
+        CacheManager manager = mock(CacheManager.class);
+        when(manager.getCache("tasks")).thenReturn(batchCache);
+        batchOperations = new CacheBatchOperations(providerOf(manager));
+
+        Map<Object, String> found = batchOperations.getAll("tasks", List.of(1L, 2L), String.class);
+
+        // Values of an unexpected type are ignored rather than failing the cast
+        assertEquals(Map.of(1L, "one"), found);
+        verify(batchCache, never()).get(any());
+    }
+
+    @Test
+    void shouldTreatCacheFailuresAsMisses() {
+        Cache batchCache = mock(Cache.class, withSettings().extraInterfaces(BatchCache.class));
+        when(((BatchCache) batchCache).getAll(any())).thenThrow(new IllegalStateException("connection refused"));
+
+        CacheManager manager = mock(CacheManager.class);
+        when(manager.getCache("tasks")).thenReturn(batchCache);
+        batchOperations = new CacheBatchOperations(providerOf(manager));
+
+        assertTrue(batchOperations.getAll("tasks", List.of(1L), String.class).isEmpty());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoCacheManagerIsConfigured() {
+        batchOperations = new CacheBatchOperations(providerOf(null));
+
+        assertTrue(batchOperations.getAll("tasks", List.of(1L), String.class).isEmpty());
+        assertDoesNotThrow(() -> batchOperations.putAll("tasks", Map.of(1L, "one")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<CacheManager> providerOf(CacheManager cacheManager) {
+        ObjectProvider<CacheManager> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(cacheManager);
+        return provider;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.TaskManagementService.cache;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CacheInvalidationBusTest {
+
+    private static final String CHANNEL = "cache:invalidation";
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    @Test
+    void shouldApplyEvictionsFromOtherNodes() {
+        CacheInvalidationBus publisher = new CacheInvalidationBus(redisTemplate, CHANNEL);
+        CacheInvalidationBus receiver = new CacheInvalidationBus(redisTemplate, CHANNEL);
+        TwoTierCache cache = registeredCache(receiver);
+
+        publisher.publishEvict("tasks", List.of("1", "2"));
+        receiver.onMessage(message(lastPublished()), null);
+
+        verify(cache).evictLocal(List.of("1", "2"));
+    }
+
+    @Test
+    void shouldApplyClearsFromOtherNodes() {
+        CacheInvalidationBus publisher = new CacheInvalidationBus(redisTemplate, CHANNEL);
+        CacheInvalidationBus receiver = new CacheInvalidationBus(redisTemplate, CHANNEL);
+        TwoTierCache cache = registeredCache(receiver);
+
+        publisher.publishClear("tasks");
+        receiver.onMessage(message(lastPublished()), null);
+
+        verify(cache).clearLocal();
+    }
+
+    @Test
+    void shouldIgnoreItsOwnMessages() {
+        CacheInvalidationBus bus = new CacheInvalidationBus(redisTemplate, CHANNEL);
+        TwoTierCache cache = registeredCache(bus);
+
+        bus.publishEvict("tasks", List.of("1"));
+        bus.onMessage(message(lastPublished()), null);
+
+        verify(cache, never()).evictLocal(any());
+    }
+
+    @Test
+    void shouldIgnoreMalformedMessages() {
+        CacheInvalidationBus bus = new CacheInvalidationBus(redisTemplate, CHANNEL);
+        TwoTierCache cache = registeredCache(bus);
+
+        assertDoesNotThrow(() -> bus.onMessage(message("not json"), null));
+        verify(cache, never()).evictLocal(any());
+        verify(cache, never()).clearLocal();
+    }
+
+    @Test
+    void shouldSwallowPublishFailures() {
+        doThrow(new IllegalStateException("redis down")).when(redisTemplate).convertAndSend(anyString(), anyString());
+        CacheInvalidationBus bus = new CacheInvalidationBus(redisTemplate, CHANNEL);
+
+        assertDoesNotThrow(() -> bus.publishClear("tasks"));
+    }
+
+    private TwoTierCache registeredCache(CacheInvalidationBus bus) {
+        TwoTierCache cache = mock(TwoTierCache.class);
+        when(cache.getName()).thenReturn("tasks");
+        bus.register(cache);
+        return cache;
+    }
+
+    private String lastPublished() {
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, atLeastOnce()).convertAndSend(eq(CHANNEL), payload.capture());
+        return payload.getValue();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
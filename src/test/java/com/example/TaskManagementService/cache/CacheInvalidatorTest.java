@@ -0,0 +1,110 @@
+package com.example.TaskManagementService.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CacheInvalidatorTest {
+
+    private DecoratingCacheManager cacheManager;
+    private InMemoryCacheTagIndex tagIndex;
+    private CacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        tagIndex = new InMemoryCacheTagIndex();
+        cacheManager = new DecoratingCacheManager(new ConcurrentMapCacheManager("tasks", "projects"),
+                cache -> new TaggingCache(cache, tagIndex));
+        invalidator = new CacheInvalidator(providerOf(cacheManager), providerOf(tagIndex));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldEvictOnlyEntriesCarryingTheTag() {
+        Cache tasks = cacheManager.getCache("tasks");
+        tasks.put(1L, CacheTagsTest.task(1L, 10L));
+        tasks.put(2L, CacheTagsTest.task(2L, 20L));
+
+        invalidator.invalidateTags(List.of(CacheTags.project(10L)));
+
+        assertNull(tasks.get(1L));
+        assertNotNull(tasks.get(2L));
+    }
+
+    @Test
+    void shouldEvictAcrossCaches() {
+        cacheManager.getCache("tasks").put(1L, CacheTagsTest.task(1L, 10L));
+        cacheManager.getCache("projects").put(10L, CacheTagsTest.project(10L));
+        cacheManager.getCache("projects").put("user:dev@test.com", List.of(CacheTagsTest.project(10L)));
+
+        invalidator.invalidateTags(List.of(CacheTags.project(10L)));
+
+        assertNull(cacheManager.getCache("tasks").get(1L));
+        assertNull(cacheManager.getCache("projects").get(10L));
+        assertNull(cacheManager.getCache("projects").get("user:dev@test.com"));
+    }
+
+    @Test
+    void shouldDeferEvictionUntilCommit() {
+        Cache tasks = cacheManager.getCache("tasks");
+        tasks.put(1L, CacheTagsTest.task(1L, 10L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        invalidator.invalidateTags(List.of(CacheTags.project(10L)));
+        assertNotNull(tasks.get(1L));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertNull(tasks.get(1L));
+    }
+
+    @Test
+    void shouldDoNothingWithoutTagIndex() {
+        invalidator = new CacheInvalidator(providerOf(cacheManager), providerOf(null));
+
+        assertDoesNotThrow(() -> invalidator.invalidateTags(List.of(CacheTags.project(10L))));
+    }
+
+    @Test
+    void shouldSwallowTagIndexFailures() {
+        CacheTagIndex failingIndex = mock(CacheTagIndex.class);
+        when(failingIndex.removeTagged(any())).thenThrow(new IllegalStateException("redis down"));
+        invalidator = new CacheInvalidator(providerOf(cacheManager), providerOf(failingIndex));
+
+        assertDoesNotThrow(() -> invalidator.invalidateTags(List.of(CacheTags.project(10L))));
+    }
+
+    @Test
+    void shouldTagEntriesWrittenInBatches() {
+        Cache tasks = cacheManager.getCache("tasks");
+        ((BatchCache) tasks).putAll(Map.of(1L, CacheTagsTest.task(1L, 10L)));
+
+        assertEquals(Map.of("tasks", Set.of(1L)), tagIndex.removeTagged(List.of(CacheTags.task(1L))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> providerOf(T bean) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(bean);
+        return provider;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.TaskManagementService.cache;
+
+import com.example.TaskManagementService.dto.ProjectResponse;
+import com.example.TaskManagementService.dto.TaskResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheTagsTest {
+
+    @Test
+    void shouldTagTasksWithTaskAndProject() {
+        assertEquals(Set.of("task:1", "project:10"), CacheTags.forEntry(1L, task(1L, 10L)));
+    }
+
+    @Test
+    void shouldTagProjectsWithDetailsAndTaskSet() {
+        assertEquals(Set.of("project:10", "project-tasks:10"), CacheTags.forEntry(10L, project(10L)));
+    }
+
+    @Test
+    void shouldTagUserProjectListsWithUserAndEveryProject() {
+        Set<String> tags = CacheTags.forEntry("user:dev@test.com", List.of(project(10L), project(20L)));
+
+        assertEquals(Set.of("user:dev@test.com", "project:10", "project-tasks:10", "project:20", "project-tasks:20"),
+                tags);
+    }
+
+    @Test
+    void shouldNotTagUnknownValues() {
+        assertTrue(CacheTags.forEntry("dev@test.com", Optional.empty()).isEmpty());
+    }
+
+    static TaskResponse task(Long id, Long projectId) {
+        TaskResponse task = new TaskResponse();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setProjectId(projectId);
+        return task;
+    }
+
+    static ProjectResponse project(Long id) {
+        ProjectResponse project = new ProjectResponse();
+        project.setId(id);
+        project.setName("Project " + id);
+        return project;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.TaskManagementService.cache;
+
+import com.example.TaskManagementService.dto.TaskResponse;
+import com.example.TaskManagementService.entity.TaskPriority;
+import com.example.TaskManagementService.entity.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactRedisSerializerTest {
+
+    private final ObjectMapper objectMapper = cacheObjectMapper();
+
+    @Test
+    void shouldRoundTripSmileValues() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(objectMapper, CompactRedisSerializer.Format.SMILE, 0);
+        TaskResponse task = task(1L);
+
+        byte[] bytes = serializer.serialize(task);
+
+        assertEquals(':', bytes[0]);
+        assertEquals(task, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void shouldBeSmallerThanJson() {
+        CompactRedisSerializer smile = new CompactRedisSerializer(objectMapper, CompactRedisSerializer.Format.SMILE, 0);
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(objectMapper);
+        List<TaskResponse> tasks = tasks(50);
+
+        assertTrue(smile.serialize(tasks).length < json.serialize(tasks).length);
+    }
+
+    @Test
+    void shouldReadEntriesWrittenByJsonSerializer() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(objectMapper, CompactRedisSerializer.Format.SMILE, 0);
+        byte[] legacy = new GenericJackson2JsonRedisSerializer(objectMapper).serialize(task(1L));
+
+        assertEquals(task(1L), serializer.deserialize(legacy));
+    }
+
+    @Test
+    void shouldCompressLargeValues() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(objectMapper, CompactRedisSerializer.Format.SMILE, 512);
+        List<TaskResponse> tasks = tasks(100);
+
+        byte[] bytes = serializer.serialize(tasks);
+
+        assertEquals(0x1f, bytes[0] & 0xff);
+        assertEquals(0x8b, bytes[1] & 0xff);
+        assertEquals(tasks, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void shouldNotCompressSmallValues() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(objectMapper, CompactRedisSerializer.Format.SMILE, 4096);
+
+        assertEquals(':', serializer.serialize(task(1L))[0]);
+    }
+
+    @Test
+    void shouldWriteJsonWhenConfigured() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(objectMapper, CompactRedisSerializer.Format.JSON, 0);
+
+        byte[] bytes = serializer.serialize(task(1L));
+
+        assertEquals('{', bytes[0]);
+        assertEquals(task(1L), new GenericJackson2JsonRedisSerializer(objectMapper).deserialize(bytes));
+    }
+
+    @Test
+    void shouldTreatEmptyPayloadAsNull() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(objectMapper, CompactRedisSerializer.Format.SMILE, 0);
+
+        assertNull(serializer.deserialize(new byte[0]));
+        assertNull(serializer.deserialize(null));
+        assertEquals(0, serializer.serialize(null).length);
+    }
+
+    // Same mapper setup as RedisConfig#cacheManager
+    static ObjectMapper cacheObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder().allowIfBaseType(Object.class).build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return mapper;
+    }
+
+    static List<TaskResponse> tasks(int count) {
+        return new ArrayList<>(LongStream.rangeClosed(1, count).mapToObj(CompactRedisSerializerTest::task).toList());
+    }
+
+    static TaskResponse task(Long id) {
+        LocalDateTime timestamp = LocalDateTime.of(2026, 1, 15, 10, 30);
+        return new TaskResponse(id, "Task " + id, "Description of task " + id, 1L, "Platform",
+                new TaskResponse.AssigneeDto(2L, "dev@test.com", "Dev User"),
+                new TaskResponse.AssigneeDto(1L, "lead@test.com", "Lead User"),
+                TaskStatus.IN_PROGRESS, TaskPriority.HIGH, timestamp.plusDays(3), timestamp, timestamp, 2L);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.TaskManagementService.cache;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory stand-in for a Redis-backed cache that can be made to fail or slow down
+ * on demand, to exercise the degradation paths without a Redis instance.
+ */
+class FlakyRedisStandIn extends ConcurrentMapCache {
+
+    private volatile boolean down;
+    private volatile long latencyMillis;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    FlakyRedisStandIn(String name) {
+        super(name);
+    }
+
+    void goDown() {
+        down = true;
+    }
+
+    void comeBack() {
+        down = false;
+    }
+
+    void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    int getCalls() {
+        return calls.get();
+    }
+
+    /** Reads the stored entry directly, bypassing fault injection. */
+    Object peek(Object key) {
+        return getNativeCache().get(key);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        check();
+        return super.lookup(key);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        check();
+        super.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        check();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        check();
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        check();
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        check();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        check();
+        return super.invalidate();
+    }
+
+    private void check() {
+        calls.incrementAndGet();
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (down) {
+            throw new RedisConnectionFailureException("Unable to connect to Redis");
+        }
+    }
+}
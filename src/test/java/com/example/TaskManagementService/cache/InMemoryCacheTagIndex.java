@@ -0,0 +1,38 @@
+package com.example.TaskManagementService.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-node tag index for tests.
+ */
+class InMemoryCacheTagIndex implements CacheTagIndex {
+
+    private record Entry(String cacheName, Object key) {
+    }
+
+    private final Map<String, Set<Entry>> entriesByTag = new ConcurrentHashMap<>();
+
+    @Override
+    public void tag(String cacheName, Object key, Collection<String> tags) {
+        tags.forEach(tag -> entriesByTag.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet())
+                .add(new Entry(cacheName, key)));
+    }
+
+    @Override
+    public Map<String, Set<Object>> removeTagged(Collection<String> tags) {
+        Map<String, Set<Object>> removed = new HashMap<>();
+        for (String tag : tags) {
+            Set<Entry> entries = entriesByTag.remove(tag);
+            if (entries != null) {
+                entries.forEach(entry -> removed.computeIfAbsent(entry.cacheName(), name -> new HashSet<>())
+                        .add(entry.key()));
+            }
+        }
+        return removed;
+    }
+}
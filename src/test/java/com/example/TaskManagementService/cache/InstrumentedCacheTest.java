@@ -0,0 +1,100 @@
+package com.example.TaskManagementService.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private InstrumentedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new InstrumentedCache(new ConcurrentMapCache("tasks"), registry);
+    }
+
+    @Test
+    void shouldCountHitsMissesPutsAndEvictions() {
+        cache.get(1L);
+        cache.put(1L, "one");
+        cache.get(1L);
+        cache.get(1L, String.class);
+        cache.evict(1L);
+        cache.clear();
+
+        InstrumentedCache.Statistics stats = cache.getStatistics();
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.puts());
+        assertEquals(2, stats.evictions());
+        assertEquals(2.0 / 3, stats.hitRatio(), 0.001);
+    }
+
+    @Test
+    void shouldTimeLoadsFromMissToPut() {
+        cache.get(1L);
+        cache.put(1L, "one");
+
+        // A put without a preceding miss on this thread is not a load
+        cache.put(2L, "two");
+
+        assertEquals(1, cache.getStatistics().loads());
+        assertEquals(3, cache.getStatistics().loadMillisPercentiles().size());
+    }
+
+    @Test
+    void shouldTimeSynchronousLoads() {
+        assertEquals("one", cache.get(1L, () -> "one"));
+        assertEquals("one", cache.get(1L, () -> "other"));
+
+        InstrumentedCache.Statistics stats = cache.getStatistics();
+        assertEquals(1, stats.loads());
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    void shouldCountBatchLookups() {
+        cache.putAll(Map.of(1L, "one", 2L, "two"));
+
+        assertEquals(Map.of(1L, "one"), cache.getAll(List.of(1L, 3L)));
+        assertEquals(1, cache.getStatistics().hits());
+        assertEquals(1, cache.getStatistics().misses());
+        assertEquals(2, cache.getStatistics().puts());
+    }
+
+    @Test
+    void shouldRankHotKeysBySampledFrequency() {
+        for (int i = 0; i < 2000; i++) {
+            cache.get(1L);
+            if (i % 10 == 0) {
+                cache.get(2L);
+            }
+        }
+
+        List<InstrumentedCache.KeySample> hotKeys = cache.getHotKeys(2);
+
+        assertEquals("1", hotKeys.get(0).key());
+        assertTrue(hotKeys.get(0).samples() > hotKeys.get(1).samples());
+    }
+
+    @Test
+    void shouldPublishStandardCacheMeters() {
+        cache.get(1L);
+        cache.put(1L, "one");
+        cache.get(1L);
+
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "tasks", "result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "tasks", "result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.puts").tags("cache", "tasks").functionCounter().count());
+        assertEquals(1, registry.get("cache.load.duration").tags("cache", "tasks").timer().count());
+    }
+}
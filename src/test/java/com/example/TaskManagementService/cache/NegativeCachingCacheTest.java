@@ -0,0 +1,118 @@
+package com.example.TaskManagementService.cache;
+
+import com.example.TaskManagementService.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeCachingCacheTest {
+
+    private ConcurrentMapCache main;
+    private ConcurrentMapCache store;
+    private NegativeCachingCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        main = new ConcurrentMapCache("tasks");
+        store = new ConcurrentMapCache(NegativeCachingCache.STORE_NAME);
+        // Loads reach the main cache through single flight, as in the real decorator chain
+        cache = new NegativeCachingCache(new SingleFlightCache(main, null,
+                new SingleFlightCache.Settings(Duration.ofMillis(100), 0, 1), (key, value) -> Duration.ofMinutes(5)),
+                store);
+    }
+
+    @Test
+    void shouldReplayNotFoundWithoutCallingLoader() {
+        Throwable first = assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get(9L, this::notFound)).getCause();
+        Throwable second = assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get(9L, this::notFound)).getCause();
+
+        assertEquals(1, loads.get());
+        assertInstanceOf(ResourceNotFoundException.class, second);
+        assertEquals(first.getMessage(), second.getMessage());
+        assertNull(main.get(9L));
+        assertEquals(new NegativeCachingCache.Statistics(1, 1), cache.getStatistics());
+    }
+
+    @Test
+    void shouldRecordNullResultsOutsideMainCache() {
+        assertNull(cache.get("missing@example.com", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get("missing@example.com", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+
+        assertEquals(1, loads.get());
+        assertNull(main.get("missing@example.com"));
+        assertNotNull(store.get("tasks:missing@example.com"));
+    }
+
+    @Test
+    void shouldForgetRecordWhenKeyIsPut() {
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(9L, this::notFound));
+
+        cache.put(9L, "created");
+
+        assertNull(store.get("tasks:9"));
+        assertEquals("created", cache.get(9L, () -> fail("loader must not run")));
+    }
+
+    @Test
+    void shouldForgetRecordWhenKeyIsEvicted() {
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(9L, this::notFound));
+
+        cache.evict(9L);
+
+        assertEquals("found", cache.get(9L, () -> "found"));
+    }
+
+    @Test
+    void shouldNotRecordOtherFailures() {
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(9L, () -> {
+            throw new IllegalStateException("db down");
+        }));
+
+        assertNull(store.get("tasks:9"));
+        assertEquals(0, cache.getStatistics().stores());
+    }
+
+    @Test
+    void shouldRecognizeWrappedNotFound() {
+        RuntimeException wrapped = new RuntimeException(new ResourceNotFoundException("Task", "id", 9L));
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(9L, () -> {
+            throw wrapped;
+        }));
+
+        assertEquals("Task not found with id: '9'", store.get("tasks:9").get());
+    }
+
+    @Test
+    void shouldPublishMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(9L, this::notFound));
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(9L, this::notFound));
+
+        assertEquals(1.0, registry.get("cache.negative.hits").tag("cache", "tasks").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.negative.stores").tag("cache", "tasks").functionCounter().count());
+    }
+
+    private String notFound() {
+        loads.incrementAndGet();
+        throw new ResourceNotFoundException("Task", "id", 9L);
+    }
+}
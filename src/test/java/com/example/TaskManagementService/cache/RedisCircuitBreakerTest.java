@@ -0,0 +1,122 @@
+package com.example.TaskManagementService.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisCircuitBreakerTest {
+
+    private static final long SLOW = Duration.ofMillis(200).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private RedisCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new RedisCircuitBreaker(
+                new RedisCircuitBreaker.Settings(10, 4, 0.5, Duration.ofMillis(100), Duration.ofSeconds(5), 2),
+                clock::get, Runnable::run);
+    }
+
+    @Test
+    void shouldStayClosedBelowMinimumCalls() {
+        failCalls(3);
+
+        assertEquals(RedisCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void shouldOpenWhenFailureRateReachesThreshold() {
+        succeedCalls(2);
+        failCalls(2);
+
+        assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(1, breaker.getRejectedCalls());
+    }
+
+    @Test
+    void shouldCountSlowCallsAsFailures() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.onSuccess(SLOW);
+        }
+
+        assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void shouldForgetFailuresThatLeftTheWindow() {
+        failCalls(1);
+        succeedCalls(10);
+        failCalls(4);
+
+        assertEquals(RedisCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void shouldProbeAfterOpenDurationAndCloseOnSuccess() {
+        AtomicInteger recoveries = new AtomicInteger();
+        breaker.onRecovery(recoveries::incrementAndGet);
+        failCalls(4);
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(RedisCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess(0);
+        breaker.onSuccess(0);
+
+        assertEquals(RedisCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(1, recoveries.get());
+    }
+
+    @Test
+    void shouldReopenWhenTrialCallFails() {
+        AtomicInteger recoveries = new AtomicInteger();
+        breaker.onRecovery(recoveries::incrementAndGet);
+        failCalls(4);
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onError(0);
+
+        assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(0, recoveries.get());
+    }
+
+    @Test
+    void shouldPublishStateGauge() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        breaker.bindTo(registry);
+        failCalls(4);
+        breaker.tryAcquirePermission();
+
+        assertEquals(1.0, registry.get("cache.redis.circuit.state").gauge().value());
+        assertEquals(1.0, registry.get("cache.redis.circuit.rejected").functionCounter().count());
+    }
+
+    private void succeedCalls(int calls) {
+        for (int i = 0; i < calls; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.onSuccess(0);
+        }
+    }
+
+    private void failCalls(int calls) {
+        for (int i = 0; i < calls; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.onError(0);
+        }
+    }
+}
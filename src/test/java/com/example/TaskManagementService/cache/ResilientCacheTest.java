@@ -0,0 +1,159 @@
+package com.example.TaskManagementService.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ResilientCacheTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(5);
+
+    private final AtomicLong clock = new AtomicLong();
+    private FlakyRedisStandIn redis;
+    private RedisCircuitBreaker breaker;
+    private ResilientCache cache;
+
+    @BeforeEach
+    void setUp() {
+        redis = new FlakyRedisStandIn("tasks");
+        breaker = new RedisCircuitBreaker(
+                new RedisCircuitBreaker.Settings(10, 4, 0.5, Duration.ofMillis(50), OPEN_DURATION, 1),
+                clock::get, Runnable::run);
+        cache = new ResilientCache(redis, breaker);
+    }
+
+    @Test
+    void shouldTreatFailedReadsAsMisses() {
+        redis.put(1L, "one");
+        redis.goDown();
+
+        assertNull(cache.get(1L));
+        assertNull(cache.get(1L, String.class));
+        assertEquals(Map.of(), cache.getAll(List.of(1L)));
+        assertEquals("loaded", cache.get(1L, () -> "loaded"));
+    }
+
+    @Test
+    void shouldBypassRedisOnceCircuitOpens() {
+        redis.goDown();
+        for (int i = 0; i < 4; i++) {
+            cache.get(1L);
+        }
+        int callsWhenOpened = redis.getCalls();
+
+        for (int i = 0; i < 100; i++) {
+            assertNull(cache.get(1L));
+        }
+
+        assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(callsWhenOpened, redis.getCalls());
+    }
+
+    @Test
+    void shouldOpenWhenRedisIsSlow() {
+        redis.setLatencyMillis(60);
+        for (int i = 0; i < 4; i++) {
+            cache.put((long) i, "value");
+        }
+
+        assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void shouldKeepServingLocalTierWhileRedisIsDown() {
+        TwoTierCache twoTier = new TwoTierCache(cache, 100, Duration.ofMinutes(1), mock(CacheInvalidationBus.class));
+        twoTier.put(1L, "one");
+        assertEquals("one", twoTier.get(1L, String.class));
+
+        redis.goDown();
+        openCircuit();
+
+        assertEquals("one", twoTier.get(1L, String.class));
+        assertNull(twoTier.get(2L));
+        assertEquals("two", twoTier.get(2L, () -> "two"));
+    }
+
+    @Test
+    void shouldReplayLostEvictionsWhenCircuitCloses() {
+        redis.put(1L, "stale");
+        redis.put(2L, "kept");
+        redis.goDown();
+        openCircuit();
+
+        cache.evict(1L);
+        cache.put(3L, "new");
+        assertEquals(2, cache.getPendingEvictions());
+
+        recover();
+
+        assertEquals(RedisCircuitBreaker.State.CLOSED, breaker.getState());
+        assertNull(redis.peek(1L));
+        assertNull(redis.peek(3L));
+        assertEquals("kept", redis.peek(2L));
+        assertEquals(0, cache.getPendingEvictions());
+    }
+
+    @Test
+    void shouldClearCacheAfterLostTagInvalidation() {
+        ResilientCacheTagIndex tagIndex = new ResilientCacheTagIndex(new FailingTagIndex(), breaker);
+        redis.put(1L, "stale");
+        redis.goDown();
+        openCircuit();
+
+        assertEquals(Map.of(), tagIndex.removeTagged(List.of(CacheTags.task(1L))));
+
+        recover();
+
+        assertNull(redis.peek(1L));
+    }
+
+    @Test
+    void shouldRethrowNonRedisFailures() {
+        ResilientCache failing = new ResilientCache(new FlakyRedisStandIn("tasks") {
+            @Override
+            public void put(Object key, Object value) {
+                throw new IllegalStateException("serialization failed");
+            }
+        }, breaker);
+
+        assertThrows(IllegalStateException.class, () -> failing.put(1L, "one"));
+        assertEquals(RedisCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            cache.get(-1L);
+        }
+        assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private void recover() {
+        redis.comeBack();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        // The trial call closes the circuit, which replays lost writes synchronously here
+        cache.get(-1L);
+    }
+
+    private static class FailingTagIndex implements CacheTagIndex {
+
+        @Override
+        public void tag(String cacheName, Object key, Collection<String> tags) {
+            throw new RedisConnectionFailureException("Unable to connect to Redis");
+        }
+
+        @Override
+        public Map<String, Set<Object>> removeTagged(Collection<String> tags) {
+            throw new RedisConnectionFailureException("Unable to connect to Redis");
+        }
+    }
+}
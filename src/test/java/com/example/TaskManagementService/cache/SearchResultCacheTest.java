@@ -0,0 +1,131 @@
+package com.example.TaskManagementService.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class SearchResultCacheTest {
+
+    private static final String GENERATION_KEY = "search-generation::project:1";
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private ConcurrentMapCacheManager cacheManager;
+    private RedisCircuitBreaker circuitBreaker;
+    private SearchResultCache searchResultCache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cacheManager = new ConcurrentMapCacheManager(SearchResultCache.CACHE_NAME);
+        circuitBreaker = new RedisCircuitBreaker(
+                new RedisCircuitBreaker.Settings(10, 4, 0.5, Duration.ofSeconds(1), Duration.ofSeconds(5), 1),
+                () -> 0L, Runnable::run);
+        searchResultCache = new SearchResultCache(providerOf(cacheManager), providerOf(redisTemplate),
+                providerOf(circuitBreaker));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldServeRepeatedSearchesFromCache() {
+        assertEquals("page-1", search());
+        assertEquals("page-1", search());
+
+        assertEquals(1, loads.get());
+        assertNotNull(cacheManager.getCache(SearchResultCache.CACHE_NAME).get("project:1@0:page=0"));
+    }
+
+    @Test
+    void shouldMakeOldPagesUnreachableWhenGenerationMoves() {
+        search();
+        when(valueOperations.get(GENERATION_KEY)).thenReturn("1");
+
+        assertEquals("page-2", search());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldBumpGenerationsAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        searchResultCache.bump(List.of("project:1", "user:dev@test.com"));
+        verify(valueOperations, never()).increment(anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(valueOperations).increment(GENERATION_KEY);
+        verify(valueOperations).increment("search-generation::user:dev@test.com");
+    }
+
+    @Test
+    void shouldQueryDirectlyWhenRedisFails() {
+        when(valueOperations.get(GENERATION_KEY)).thenThrow(new IllegalStateException("redis down"));
+
+        assertEquals("page-1", search());
+        assertEquals("page-2", search());
+    }
+
+    @Test
+    void shouldSkipRedisOnceCircuitOpens() {
+        when(valueOperations.get(GENERATION_KEY)).thenThrow(new IllegalStateException("redis down"));
+        for (int i = 0; i < 4; i++) {
+            search();
+        }
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        assertEquals("page-5", search());
+        searchResultCache.bump(List.of("project:1"));
+
+        verify(valueOperations, times(4)).get(GENERATION_KEY);
+        verify(valueOperations, never()).increment(anyString());
+    }
+
+    @Test
+    void shouldQueryDirectlyWithoutCaching() {
+        searchResultCache = new SearchResultCache(providerOf(null), providerOf(null), providerOf(null));
+
+        assertEquals("page-1", search());
+        assertEquals("page-2", search());
+        assertDoesNotThrow(() -> searchResultCache.bump(List.of("project:1")));
+    }
+
+    @Test
+    void shouldUseSharedScopeForUnfilteredProject() {
+        assertEquals("project:all", SearchResultCache.projectScope(null));
+        assertEquals("project:7", SearchResultCache.projectScope(7L));
+    }
+
+    private String search() {
+        return searchResultCache.get("project:1", "page=0", () -> "page-" + loads.incrementAndGet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> providerOf(T bean) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(bean);
+        return provider;
+    }
+}
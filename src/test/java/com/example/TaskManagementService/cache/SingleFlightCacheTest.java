@@ -0,0 +1,165 @@
+package com.example.TaskManagementService.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SingleFlightCacheTest {
+
+    private static final SingleFlightCache.Settings NO_EARLY_REFRESH =
+            new SingleFlightCache.Settings(Duration.ofMillis(500), 0, 1);
+
+    private final ConcurrentMapCache remote = new ConcurrentMapCache("tasks");
+
+    @Test
+    void shouldLoadOnceForConcurrentMisses() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(remote, null, NO_EARLY_REFRESH, (k, v) -> Duration.ofMinutes(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "one";
+                })));
+            }
+
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("one", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals("one", remote.get(1L).get());
+    }
+
+    @Test
+    void shouldServeCachedValueWithoutLoading() {
+        SingleFlightCache cache = new SingleFlightCache(remote, null, NO_EARLY_REFRESH, (k, v) -> Duration.ofMinutes(5));
+        remote.put(1L, "one");
+
+        assertEquals("one", cache.get(1L, () -> fail("loader must not run")));
+    }
+
+    @Test
+    void shouldWrapLoaderFailures() {
+        SingleFlightCache cache = new SingleFlightCache(remote, null, NO_EARLY_REFRESH, (k, v) -> Duration.ofMinutes(5));
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        Cache.ValueRetrievalException ex = assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get(1L, () -> { throw failure; }));
+
+        assertSame(failure, ex.getCause());
+        assertNull(remote.get(1L));
+    }
+
+    @Test
+    void shouldWaitForAnotherNodesLoadWhenLockIsTaken() {
+        LoadLock loadLock = mock(LoadLock.class);
+        when(loadLock.tryAcquire("tasks", 1L)).thenAnswer(invocation -> {
+            // The lock holder stores the value while this node waits
+            remote.put(1L, "loaded elsewhere");
+            return null;
+        });
+        SingleFlightCache cache = new SingleFlightCache(remote, loadLock, NO_EARLY_REFRESH, (k, v) -> Duration.ofMinutes(5));
+
+        assertEquals("loaded elsewhere", cache.get(1L, () -> fail("loader must not run")));
+        verify(loadLock, never()).release(any(), any(), any());
+    }
+
+    @Test
+    void shouldLoadAnywayWhenLockHolderDoesNotDeliver() {
+        LoadLock loadLock = mock(LoadLock.class);
+        SingleFlightCache cache = new SingleFlightCache(remote, loadLock,
+                new SingleFlightCache.Settings(Duration.ofMillis(60), 0, 1), (k, v) -> Duration.ofMinutes(5));
+
+        assertEquals("one", cache.get(1L, () -> "one"));
+        assertEquals("one", remote.get(1L).get());
+    }
+
+    @Test
+    void shouldReleaseLockAfterLoading() {
+        LoadLock loadLock = mock(LoadLock.class);
+        when(loadLock.tryAcquire("tasks", 1L)).thenReturn("token");
+        SingleFlightCache cache = new SingleFlightCache(remote, loadLock, NO_EARLY_REFRESH, (k, v) -> Duration.ofMinutes(5));
+
+        assertEquals("one", cache.get(1L, () -> "one"));
+
+        verify(loadLock).release("tasks", 1L, "token");
+    }
+
+    @Test
+    void shouldLoadWithoutLockWhenLockIsUnavailable() {
+        LoadLock loadLock = mock(LoadLock.class);
+        when(loadLock.tryAcquire(eq("tasks"), any())).thenThrow(new IllegalStateException("redis down"));
+        SingleFlightCache cache = new SingleFlightCache(remote, loadLock, NO_EARLY_REFRESH, (k, v) -> Duration.ofMinutes(5));
+
+        assertEquals("one", cache.get(1L, () -> "one"));
+    }
+
+    @Test
+    void shouldRefreshHotKeyBeforeItExpires() {
+        // An already expired prediction makes the XFetch check pass on every read
+        SingleFlightCache cache = new SingleFlightCache(remote, null,
+                new SingleFlightCache.Settings(Duration.ofMillis(500), 1.0, 2), (k, v) -> Duration.ofNanos(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.get(1L, () -> "v" + loads.incrementAndGet()));
+        // First hit counts towards min-reads only
+        assertEquals("v1", cache.get(1L, () -> "v" + loads.incrementAndGet()));
+        assertEquals("v2", cache.get(1L, () -> "v" + loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+        assertEquals("v2", remote.get(1L).get());
+    }
+
+    @Test
+    void shouldNotRefreshEarlyWhenDisabled() {
+        SingleFlightCache cache = new SingleFlightCache(remote, null, NO_EARLY_REFRESH, (k, v) -> Duration.ofNanos(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            cache.get(1L, () -> "v" + loads.incrementAndGet());
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldNotRefreshEarlyFarFromExpiry() {
+        SingleFlightCache cache = new SingleFlightCache(remote, null,
+                new SingleFlightCache.Settings(Duration.ofMillis(500), 1.0, 1), (k, v) -> Duration.ofHours(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 20; i++) {
+            cache.get(1L, () -> "v" + loads.incrementAndGet());
+        }
+
+        assertEquals(1, loads.get());
+    }
+}
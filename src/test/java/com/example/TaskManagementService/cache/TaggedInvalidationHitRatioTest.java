@@ -0,0 +1,90 @@
+package com.example.TaskManagementService.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Replays the same mixed read/write workload against the previous allEntries evictions
+ * and against tag-based invalidation, and compares the resulting hit ratios.
+ */
+class TaggedInvalidationHitRatioTest {
+
+    private static final int PROJECTS = 20;
+    private static final int TASKS_PER_PROJECT = 50;
+    private static final int OPERATIONS = 20_000;
+    private static final double WRITE_RATIO = 0.1;
+
+    @Test
+    void shouldKeepHitRatioHighUnderWrites() {
+        double allEntries = replay(false);
+        double tagged = replay(true);
+
+        String ratios = String.format("hit ratio with %.0f%% writes: allEntries=%.3f, tagged=%.3f",
+                WRITE_RATIO * 100, allEntries, tagged);
+
+        assertTrue(tagged > 0.85, ratios);
+        assertTrue(tagged > allEntries + 0.5, ratios);
+    }
+
+    private double replay(boolean tagged) {
+        InMemoryCacheTagIndex tagIndex = new InMemoryCacheTagIndex();
+        DecoratingCacheManager cacheManager = new DecoratingCacheManager(
+                new ConcurrentMapCacheManager("tasks", "projects"),
+                cache -> new TaggingCache(cache, tagIndex));
+        CacheInvalidator invalidator = new CacheInvalidator(providerOf(cacheManager), providerOf(tagIndex));
+
+        Cache tasks = cacheManager.getCache("tasks");
+        Cache projects = cacheManager.getCache("projects");
+        Random random = new Random(42);
+        int hits = 0;
+        int reads = 0;
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            long projectId = 1 + random.nextInt(PROJECTS);
+            long taskId = projectId * 1000 + random.nextInt(TASKS_PER_PROJECT);
+
+            if (random.nextDouble() >= WRITE_RATIO) {
+                reads++;
+                boolean readTask = random.nextInt(4) != 0;
+                Cache cache = readTask ? tasks : projects;
+                Object key = readTask ? taskId : projectId;
+                if (cache.get(key) != null) {
+                    hits++;
+                } else {
+                    cache.put(key, readTask ? CacheTagsTest.task(taskId, projectId) : CacheTagsTest.project(projectId));
+                }
+            } else if (random.nextBoolean()) {
+                // createTask
+                if (tagged) {
+                    invalidator.invalidateTags(List.of(CacheTags.projectTasks(projectId)));
+                } else {
+                    tasks.clear();
+                    projects.evict(projectId);
+                }
+            } else {
+                // updateTask
+                tasks.put(taskId, CacheTagsTest.task(taskId, projectId));
+                if (!tagged) {
+                    projects.clear();
+                }
+            }
+        }
+
+        return (double) hits / reads;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> providerOf(T bean) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(bean);
+        return provider;
+    }
+}
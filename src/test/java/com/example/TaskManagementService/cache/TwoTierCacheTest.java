@@ -0,0 +1,159 @@
+package com.example.TaskManagementService.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TwoTierCacheTest {
+
+    private ConcurrentMapCache remote;
+    private CacheInvalidationBus invalidationBus;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = spy(new ConcurrentMapCache("tasks"));
+        invalidationBus = mock(CacheInvalidationBus.class);
+        cache = new TwoTierCache(remote, 1000, Duration.ofMinutes(1), invalidationBus);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromLocalTier() {
+        remote.put(1L, "one");
+
+        assertEquals("one", cache.get(1L, String.class));
+        assertEquals("one", cache.get(1L, String.class));
+        assertEquals("one", cache.get(1L).get());
+
+        verify(remote, times(1)).get(1L);
+        TwoTierCache.TierStatistics stats = cache.getStatistics();
+        assertEquals(2, stats.localHits());
+        assertEquals(1, stats.remoteHits());
+        assertEquals(0, stats.misses());
+    }
+
+    @Test
+    void shouldCountMissesWhenNeitherTierHasTheKey() {
+        assertNull(cache.get(1L));
+
+        assertEquals(1, cache.getStatistics().misses());
+        assertEquals(0.0, cache.getStatistics().hitRatio());
+    }
+
+    @Test
+    void shouldCacheNullValuesLocally() {
+        remote.put(1L, null);
+
+        assertNull(cache.get(1L).get());
+        assertNull(cache.get(1L).get());
+
+        verify(remote, times(1)).get(1L);
+    }
+
+    @Test
+    void shouldWriteThroughAndBroadcastOnPut() {
+        remote.put(1L, "old");
+        cache.get(1L);
+
+        cache.put(1L, "new");
+
+        assertEquals("new", cache.get(1L, String.class));
+        verify(invalidationBus).publishEvict("tasks", List.of("1"));
+    }
+
+    @Test
+    void shouldBroadcastEvictionsAndClears() {
+        cache.evict(7L);
+        cache.clear();
+
+        verify(remote).evict(7L);
+        verify(remote).clear();
+        verify(invalidationBus).publishEvict("tasks", List.of("7"));
+        verify(invalidationBus).publishClear("tasks");
+    }
+
+    @Test
+    void shouldDropLocalCopyOnRemoteInvalidation() {
+        remote.put(1L, "one");
+        cache.get(1L);
+        remote.put(1L, "changed elsewhere");
+
+        cache.evictLocal(List.of("1"));
+
+        assertEquals("changed elsewhere", cache.get(1L, String.class));
+        verify(invalidationBus, never()).publishEvict(any(), any());
+    }
+
+    @Test
+    void shouldNotCacheLocallyWhatWasReadBeforeAnInvalidation() {
+        remote.put(1L, "old");
+        // The invalidation of a write on another node arrives while the remote read is in flight
+        doAnswer(invocation -> {
+            Cache.ValueWrapper read = (Cache.ValueWrapper) invocation.callRealMethod();
+            remote.put(1L, "new");
+            cache.evictLocal(List.of("1"));
+            return read;
+        }).doCallRealMethod().when(remote).get(1L);
+
+        assertEquals("old", cache.get(1L, String.class));
+
+        assertEquals("new", cache.get(1L, String.class));
+        verify(remote, times(2)).get(1L);
+    }
+
+    @Test
+    void shouldLoadMissWithOneRemoteCallAndKeepLoadedValueOutOfLocalTier() {
+        assertEquals("loaded", cache.get(1L, () -> "loaded"));
+
+        verify(remote, never()).get(1L);
+        assertEquals(1, cache.getStatistics().misses());
+
+        // The second lookup reads the loaded value back from the remote tier
+        assertEquals("loaded", cache.get(1L, () -> "reloaded"));
+        assertEquals("loaded", cache.get(1L, () -> "reloaded"));
+        assertEquals(1, cache.getStatistics().remoteHits());
+        assertEquals(1, cache.getStatistics().localHits());
+    }
+
+    @Test
+    void shouldLoadOnlyLocalMissesInBatchLookups() {
+        remote.put(1L, "one");
+        remote.put(2L, "two");
+        cache.get(1L);
+
+        Map<Object, Object> found = cache.getAll(List.of(1L, 2L, 3L));
+
+        assertEquals(Map.of(1L, "one", 2L, "two"), found);
+        verify(remote, times(1)).get(1L);
+        verify(remote, times(1)).get(2L);
+        verify(remote, times(1)).get(3L);
+
+        // Both values are now local
+        cache.getAll(List.of(1L, 2L));
+        verify(remote, times(1)).get(2L);
+    }
+
+    @Test
+    void shouldRejectValuesOfUnexpectedType() {
+        remote.put(1L, "one");
+
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, Integer.class));
+    }
+
+    @Test
+    void shouldFindDecoratedCacheInChain() {
+        Cache outer = new ForwardingCache(cache) {
+        };
+
+        assertSame(cache, ForwardingCache.unwrap(outer, TwoTierCache.class));
+        assertNull(ForwardingCache.unwrap(remote, TwoTierCache.class));
+    }
+}
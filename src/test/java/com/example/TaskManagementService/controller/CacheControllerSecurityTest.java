@@ -0,0 +1,111 @@
+package com.example.TaskManagementService.controller;
+
+import com.example.TaskManagementService.config.SecurityConfig;
+import com.example.TaskManagementService.ratelimit.RateLimitFilter;
+import com.example.TaskManagementService.service.CachePurgeService;
+import com.example.TaskManagementService.service.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Role checks of the cache endpoints, through the real security filter chain. The JWT
+ * and rate-limit filters are pass-through stand-ins; requests carry their principal directly.
+ */
+@WebMvcTest(CacheController.class)
+@Import(SecurityConfig.class)
+class CacheControllerSecurityTest {
+
+    @TestConfiguration
+    static class MetricsConfig {
+        // The password encoder of SecurityConfig reports its queue
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CacheManager cacheManager;
+
+    @MockBean
+    private CachePurgeService cachePurgeService;
+
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @MockBean
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        passThrough(jwtAuthenticationFilter);
+        passThrough(rateLimitFilter);
+    }
+
+    @Test
+    void shouldForbidHotKeysForUsers() throws Exception {
+        mockMvc.perform(get("/api/cache/stats/users/hot-keys").with(user("user@test.com").roles("USER")))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(cacheManager);
+    }
+
+    @Test
+    void shouldAllowHotKeysForAdmins() throws Exception {
+        mockMvc.perform(get("/api/cache/stats/users/hot-keys").with(user("admin@test.com").roles("ADMIN")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldForbidPurgeAndClearForUsers() throws Exception {
+        mockMvc.perform(post("/api/cache/purge/search").param("prefix", "project:1@")
+                        .with(user("user@test.com").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/cache/clear").with(user("user@test.com").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/cache/clear/tasks").with(user("user@test.com").roles("USER")))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(cachePurgeService, cacheManager);
+    }
+
+    @Test
+    void shouldAllowClearForAdmins() throws Exception {
+        when(cacheManager.getCacheNames()).thenReturn(List.of());
+
+        mockMvc.perform(delete("/api/cache/clear").with(user("admin@test.com").roles("ADMIN")))
+                .andExpect(status().isOk());
+    }
+
+    private static void passThrough(Filter filter) throws Exception {
+        doAnswer(invocation -> {
+            invocation.<FilterChain>getArgument(2).doFilter(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(filter).doFilter(any(ServletRequest.class), any(ServletResponse.class), any(FilterChain.class));
+    }
+}
@@ -1,5 +1,12 @@
 package com.example.TaskManagementService.controller;
 
+import com.example.TaskManagementService.cache.CacheInvalidationBus;
+import com.example.TaskManagementService.cache.InstrumentedCache;
+import com.example.TaskManagementService.cache.NegativeCachingCache;
+import com.example.TaskManagementService.cache.SingleFlightCache;
+import com.example.TaskManagementService.cache.TwoTierCache;
+import com.example.TaskManagementService.service.CachePurgeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -7,10 +14,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -18,12 +30,18 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class CacheControllerTest {
 
+    private static final Authentication ADMIN = new TestingAuthenticationToken("admin@test.com", null, "ROLE_ADMIN");
+    private static final Authentication USER = new TestingAuthenticationToken("user@test.com", null, "ROLE_USER");
+
     @Mock
     private CacheManager cacheManager;
 
     @Mock
     private Cache cache;
 
+    @Mock
+    private CachePurgeService cachePurgeService;
+
     @InjectMocks
     private CacheController controller;
 
@@ -33,13 +51,115 @@ class CacheControllerTest {
         when(cacheManager.getCache("tasks")).thenReturn(cache);
         when(cacheManager.getCache("projects")).thenReturn(cache);
 
-        ResponseEntity<Map<String, Object>> response = controller.getCacheStats();
+        ResponseEntity<Map<String, Object>> response = controller.getCacheStats(ADMIN);
 
         assertEquals(200, response.getStatusCodeValue());
         assertEquals("active", response.getBody().get("tasks"));
         assertEquals("active", response.getBody().get("projects"));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnTierStatsForTwoTierCaches() {
+        TwoTierCache twoTier = new TwoTierCache(new ConcurrentMapCache("tasks"), 100, Duration.ofMinutes(1),
+                mock(CacheInvalidationBus.class));
+        twoTier.put(1L, "one");
+        twoTier.get(1L);
+        twoTier.get(1L);
+        twoTier.get(2L);
+
+        when(cacheManager.getCacheNames()).thenReturn(List.of("tasks"));
+        when(cacheManager.getCache("tasks")).thenReturn(twoTier);
+
+        Map<String, Object> stats = (Map<String, Object>) controller.getCacheStats(ADMIN).getBody().get("tasks");
+        Map<String, Object> tiers = (Map<String, Object>) stats.get("tiers");
+
+        assertEquals(1L, tiers.get("l1Hits"));
+        assertEquals(1L, tiers.get("l2Hits"));
+        assertEquals(1L, tiers.get("misses"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnInstrumentedStats() {
+        InstrumentedCache instrumented = new InstrumentedCache(new ConcurrentMapCache("tasks"), new SimpleMeterRegistry());
+        instrumented.get(1L);
+        instrumented.put(1L, "one");
+        instrumented.get(1L);
+        instrumented.evict(1L);
+
+        when(cacheManager.getCacheNames()).thenReturn(List.of("tasks"));
+        when(cacheManager.getCache("tasks")).thenReturn(instrumented);
+
+        Map<String, Object> stats = (Map<String, Object>) controller.getCacheStats(ADMIN).getBody().get("tasks");
+
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(1L, stats.get("misses"));
+        assertEquals(1L, stats.get("puts"));
+        assertEquals(1L, stats.get("evictions"));
+        assertEquals(1L, stats.get("loads"));
+        assertTrue(((Map<String, Double>) stats.get("loadMillis")).containsKey("p95"));
+        assertNotNull(stats.get("hotKeys"));
+        assertFalse(stats.containsKey("footprint"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldLeaveHotKeysOutOfStatsForUsers() {
+        InstrumentedCache instrumented = new InstrumentedCache(new ConcurrentMapCache("users"), new SimpleMeterRegistry());
+        instrumented.get("someone@test.com");
+
+        when(cacheManager.getCacheNames()).thenReturn(List.of("users"));
+        when(cacheManager.getCache("users")).thenReturn(instrumented);
+
+        Map<String, Object> stats = (Map<String, Object>) controller.getCacheStats(USER).getBody().get("users");
+
+        assertEquals(1L, stats.get("misses"));
+        assertFalse(stats.containsKey("hotKeys"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnNotFoundStats() {
+        SingleFlightCache singleFlight = new SingleFlightCache(new ConcurrentMapCache("tasks"), null,
+                new SingleFlightCache.Settings(Duration.ofMillis(100), 0, 1), (key, value) -> Duration.ofMinutes(5));
+        NegativeCachingCache negative = new NegativeCachingCache(singleFlight,
+                new ConcurrentMapCache(NegativeCachingCache.STORE_NAME));
+        InstrumentedCache instrumented = new InstrumentedCache(negative, new SimpleMeterRegistry());
+        instrumented.get(1L, () -> null);
+        instrumented.get(1L, () -> null);
+
+        when(cacheManager.getCacheNames()).thenReturn(List.of("tasks"));
+        when(cacheManager.getCache("tasks")).thenReturn(instrumented);
+
+        Map<String, Object> stats = (Map<String, Object>) controller.getCacheStats(ADMIN).getBody().get("tasks");
+        Map<String, Object> notFound = (Map<String, Object>) stats.get("notFound");
+
+        assertEquals(1L, notFound.get("absorbedLookups"));
+        assertEquals(1L, notFound.get("recorded"));
+    }
+
+    @Test
+    void shouldReturnHotKeysOfInstrumentedCache() {
+        InstrumentedCache instrumented = new InstrumentedCache(new ConcurrentMapCache("tasks"), new SimpleMeterRegistry());
+        for (int i = 0; i < 400; i++) {
+            instrumented.get(7L);
+        }
+        when(cacheManager.getCache("tasks")).thenReturn(instrumented);
+
+        ResponseEntity<List<Map<String, Object>>> response = controller.getHotKeys("tasks", 5);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals("7", response.getBody().get(0).get("key"));
+    }
+
+    @Test
+    void shouldReturn404ForHotKeysOfPlainCache() {
+        when(cacheManager.getCache("tasks")).thenReturn(cache);
+
+        assertEquals(404, controller.getHotKeys("tasks", 5).getStatusCodeValue());
+    }
+
     @Test
     void shouldClearAllCaches() {
         when(cacheManager.getCacheNames()).thenReturn(List.of("tasks"));
@@ -63,6 +183,27 @@ class CacheControllerTest {
         assertTrue(response.getBody().contains("tasks"));
     }
 
+    @Test
+    void shouldStartPurgeAndReportProgress() {
+        CachePurgeService.PurgeStatus queued = new CachePurgeService.PurgeStatus("job-1", "search", "project:42@",
+                CachePurgeService.State.QUEUED, 0, 0, null, null, null);
+        when(cachePurgeService.startPurge("search", "project:42@")).thenReturn(queued);
+        when(cachePurgeService.getStatus("job-1")).thenReturn(Optional.of(queued));
+
+        ResponseEntity<CachePurgeService.PurgeStatus> started = controller.purgeByPrefix("search", "project:42@");
+
+        assertEquals(202, started.getStatusCodeValue());
+        assertEquals("job-1", started.getBody().id());
+        assertEquals(queued, controller.getPurgeStatus("job-1").getBody());
+    }
+
+    @Test
+    void shouldReturn404ForUnknownPurgeJob() {
+        when(cachePurgeService.getStatus("missing")).thenReturn(Optional.empty());
+
+        assertEquals(404, controller.getPurgeStatus("missing").getStatusCodeValue());
+    }
+
     @Test
     void shouldReturn404WhenCacheNotFound() {
         when(cacheManager.getCache("unknown")).thenReturn(null);
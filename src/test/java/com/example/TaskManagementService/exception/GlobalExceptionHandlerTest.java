@@ -2,6 +2,7 @@ package com.example.TaskManagementService.exception;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.test.web.servlet.MockMvc;
@@ -55,6 +56,16 @@ class GlobalExceptionHandlerTest {
             throw new DuplicateResourceException("Already exists");
         }
 
+        @GetMapping("/concurrent-update")
+        public void concurrentUpdate() {
+            throw new OptimisticLockingFailureException("Row was updated by another transaction");
+        }
+
+        @GetMapping("/unavailable")
+        public void unavailable() {
+            throw new ServiceUnavailableException("Busy");
+        }
+
         @GetMapping("/auth-error")
         public void authError() {
             throw new BadCredentialsException("Wrong password");
@@ -111,6 +122,23 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.error").value("Conflict"));
     }
 
+    @Test
+    void shouldHandleOptimisticLockingFailureAsConflict() throws Exception {
+        mockMvc.perform(get("/concurrent-update"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"))
+                .andExpect(jsonPath("$.message").value("The resource was modified concurrently, please retry"));
+    }
+
+    @Test
+    void shouldHandleServiceUnavailableException() throws Exception {
+        mockMvc.perform(get("/unavailable"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").value("Service Unavailable"))
+                .andExpect(jsonPath("$.message").value("Busy"));
+    }
+
     @Test
     void shouldHandleAuthenticationException() throws Exception {
         mockMvc.perform(get("/auth-error"))
@@ -0,0 +1,125 @@
+package com.example.TaskManagementService.ratelimit;
+
+import com.example.TaskManagementService.entity.Role;
+import com.example.TaskManagementService.security.AuthenticatedUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        LocalRateLimiter rateLimiter = new LocalRateLimiter(Map.of(
+                EndpointGroup.AUTH, new RateLimiter.Limit(2, 0.5),
+                EndpointGroup.SEARCH, new RateLimiter.Limit(1, 1),
+                EndpointGroup.API, new RateLimiter.Limit(5, 5)),
+                1000, Duration.ofMinutes(10), clock::get);
+        filter = new RateLimitFilter(rateLimiter, new ObjectMapper().findAndRegisterModules(), registry, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRejectWith429AndRetryAfterOnceBucketIsEmpty() throws Exception {
+        assertEquals(200, perform("POST", "/api/auth/login", "10.0.0.1").getStatus());
+        assertEquals(200, perform("POST", "/api/auth/login", "10.0.0.1").getStatus());
+
+        MockHttpServletResponse rejected = perform("POST", "/api/auth/login", "10.0.0.1");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("2", rejected.getHeader("Retry-After"));
+        assertEquals("0", rejected.getHeader(RateLimitFilter.REMAINING_HEADER));
+        assertTrue(rejected.getContentAsString().contains("Too Many Requests"));
+        assertEquals(1.0, registry.get("http.ratelimit.throttled").tag("group", "auth").counter().count());
+    }
+
+    @Test
+    void shouldKeepSeparateBucketsPerClientAndGroup() throws Exception {
+        assertEquals(200, perform("GET", "/api/tasks/search", "10.0.0.1").getStatus());
+        assertEquals(429, perform("GET", "/api/tasks/search", "10.0.0.1").getStatus());
+
+        // Other client, and other endpoint groups of the same client, are unaffected
+        assertEquals(200, perform("GET", "/api/tasks/search", "10.0.0.2").getStatus());
+        assertEquals(200, perform("GET", "/api/tasks/1", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void shouldLimitAuthenticatedRequestsPerUserRatherThanIp() throws Exception {
+        authenticateAs(1L);
+        assertEquals(200, perform("GET", "/api/projects/search", "10.0.0.1").getStatus());
+        assertEquals(429, perform("GET", "/api/projects/search", "10.0.0.2").getStatus());
+
+        authenticateAs(2L);
+        assertEquals(200, perform("GET", "/api/projects/search", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void shouldIgnoreForwardedHeaderSetByTheClient() throws Exception {
+        assertEquals(200, perform("POST", "/api/auth/login", "10.0.0.1", "203.0.113.1").getStatus());
+        assertEquals(200, perform("POST", "/api/auth/login", "10.0.0.1", "203.0.113.2").getStatus());
+
+        assertEquals(429, perform("POST", "/api/auth/login", "10.0.0.1", "203.0.113.3").getStatus());
+    }
+
+    @Test
+    void shouldAllowAgainAfterRefill() throws Exception {
+        perform("GET", "/api/tasks/search", "10.0.0.1");
+        assertEquals(429, perform("GET", "/api/tasks/search", "10.0.0.1").getStatus());
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertEquals(200, perform("GET", "/api/tasks/search", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void shouldNotLimitPathsOutsideTheApi() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletResponse response = perform("GET", "/actuator/health", "10.0.0.1");
+            assertEquals(200, response.getStatus());
+            assertNull(response.getHeader(RateLimitFilter.LIMIT_HEADER));
+        }
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String remoteAddr) throws Exception {
+        return perform(method, path, remoteAddr, null);
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String remoteAddr, String forwardedFor)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private void authenticateAs(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId + "@test.com", "User", Role.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
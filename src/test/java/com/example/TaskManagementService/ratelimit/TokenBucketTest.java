@@ -0,0 +1,69 @@
+package com.example.TaskManagementService.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void shouldAllowBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(new RateLimiter.Limit(3, 1), 0);
+
+        assertEquals(2, bucket.tryConsume(0).remaining());
+        assertEquals(1, bucket.tryConsume(0).remaining());
+        assertEquals(0, bucket.tryConsume(0).remaining());
+
+        RateLimiter.Decision rejected = bucket.tryConsume(0);
+        assertFalse(rejected.allowed());
+        assertEquals(Duration.ofSeconds(1), rejected.retryAfter());
+    }
+
+    @Test
+    void shouldRefillOverTimeWithoutExceedingCapacity() {
+        TokenBucket bucket = new TokenBucket(new RateLimiter.Limit(2, 2), 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertFalse(bucket.tryConsume(SECOND / 4).allowed());
+        assertTrue(bucket.tryConsume(SECOND / 2).allowed());
+
+        // Idle for a minute: full again, but no more than capacity
+        assertEquals(1, bucket.tryConsume(60 * SECOND).remaining());
+        assertTrue(bucket.tryConsume(60 * SECOND).allowed());
+        assertFalse(bucket.tryConsume(60 * SECOND).allowed());
+    }
+
+    @Test
+    void shouldHandOutEachTokenOnceUnderContention() throws Exception {
+        TokenBucket bucket = new TokenBucket(new RateLimiter.Limit(1000, 0.001), 0);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CompletableFuture<?>[] workers = new CompletableFuture<?>[8];
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        if (bucket.tryConsume(0).allowed()) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(workers).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1000, allowed.get());
+    }
+}
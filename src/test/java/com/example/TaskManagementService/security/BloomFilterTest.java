@@ -0,0 +1,51 @@
+package com.example.TaskManagementService.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void shouldAlwaysContainAddedValues() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+        String[] ids = new String[1000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            filter.put(ids[i]);
+        }
+
+        for (String id : ids) {
+            assertTrue(filter.mightContain(id));
+        }
+    }
+
+    @Test
+    void shouldKeepFalsePositivesNearConfiguredRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // 1% expected; allow for variance
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void shouldSizeForExpectedInsertions() {
+        BloomFilter filter = BloomFilter.create(100_000, 0.001);
+
+        // About 14.4 bits and 10 hashes per value at 0.1%
+        assertEquals(1_437_759, filter.bitCount());
+        assertEquals(10, filter.hashCount());
+    }
+}
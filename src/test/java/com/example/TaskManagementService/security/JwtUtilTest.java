@@ -1,5 +1,9 @@
 package com.example.TaskManagementService.security;
 
+import com.example.TaskManagementService.entity.Role;
+import com.example.TaskManagementService.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -26,7 +30,7 @@ class JwtUtilTest {
 
     @Test
     void shouldGenerateTokenSuccessfully() {
-        String token = jwtUtil.generateToken("test@test.com");
+        String token = jwtUtil.generateToken(user("test@test.com"));
 
         assertNotNull(token);
         assertFalse(token.isBlank());
@@ -35,7 +39,7 @@ class JwtUtilTest {
     @Test
     void shouldExtractEmailFromToken() {
         String email = "user@test.com";
-        String token = jwtUtil.generateToken(email);
+        String token = jwtUtil.generateToken(user(email));
 
         String extractedEmail = jwtUtil.extractEmail(token);
 
@@ -44,14 +48,14 @@ class JwtUtilTest {
 
     @Test
     void shouldValidateValidToken() {
-        String token = jwtUtil.generateToken("valid@test.com");
+        String token = jwtUtil.generateToken(user("valid@test.com"));
 
         assertTrue(jwtUtil.validateToken(token));
     }
 
     @Test
     void shouldReturnFalseForTamperedToken() {
-        String token = jwtUtil.generateToken("test@test.com");
+        String token = jwtUtil.generateToken(user("test@test.com"));
 
         // Tamper the token
         String tamperedToken = token + "invalid";
@@ -64,7 +68,7 @@ class JwtUtilTest {
         // Set very short expiration
         ReflectionTestUtils.setField(jwtUtil, "expiration", 1L);
 
-        String token = jwtUtil.generateToken("expired@test.com");
+        String token = jwtUtil.generateToken(user("expired@test.com"));
 
         // Wait to expire
         Thread.sleep(5);
@@ -77,4 +81,60 @@ class JwtUtilTest {
         assertThrows(Exception.class, () ->
                 jwtUtil.extractEmail("invalid.token.value"));
     }
+
+    @Test
+    void shouldReturnAllClaimsFromSingleParse() {
+        String token = jwtUtil.generateToken(user("claims@test.com"));
+
+        Claims claims = jwtUtil.parseClaims(token);
+
+        assertEquals("claims@test.com", claims.getSubject());
+        assertNotNull(claims.getIssuedAt());
+        assertTrue(claims.getExpiration().after(claims.getIssuedAt()));
+    }
+
+    @Test
+    void shouldCarryUserIdRoleAndTokenVersion() {
+        User user = user("admin@test.com");
+        user.setRole(Role.ADMIN);
+        user.revokeTokens();
+
+        Claims claims = jwtUtil.parseClaims(jwtUtil.generateToken(user));
+
+        assertEquals(42L, claims.get(JwtUtil.CLAIM_USER_ID, Long.class));
+        assertEquals("ADMIN", claims.get(JwtUtil.CLAIM_ROLE, String.class));
+        assertEquals(1, claims.get(JwtUtil.CLAIM_TOKEN_VERSION, Integer.class));
+        assertEquals(new AuthenticatedUser(42L, "admin@test.com", "Test User", Role.ADMIN),
+                AuthenticatedUser.fromClaims(claims));
+    }
+
+    @Test
+    void shouldAnswerRepeatedTokenFromVerifiedCache() {
+        String token = jwtUtil.generateToken(user("repeat@test.com"));
+
+        Claims first = jwtUtil.parseClaims(token);
+        Claims second = jwtUtil.parseClaims(token);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void shouldRejectCachedTokenOnceExpired() throws InterruptedException {
+        // The exp claim has whole-second precision: 1.5 s leaves at least 0.5 s of validity
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 1500L);
+        String token = jwtUtil.generateToken(user("short@test.com"));
+        jwtUtil.parseClaims(token);
+
+        Thread.sleep(1600);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseClaims(token));
+    }
+
+    private static User user(String email) {
+        User user = new User();
+        user.setId(42L);
+        user.setEmail(email);
+        user.setFullName("Test User");
+        return user;
+    }
 }
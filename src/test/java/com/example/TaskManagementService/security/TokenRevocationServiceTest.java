@@ -0,0 +1,149 @@
+package com.example.TaskManagementService.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private CountingStore store;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        store = new CountingStore();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("revokedTokenStore", store);
+        service = new TokenRevocationService(beanFactory.getBeanProvider(RevokedTokenStore.class), 1000, 0.01, registry);
+    }
+
+    @Test
+    void shouldAnswerUnrevokedTokensWithoutStoreLookup() {
+        service.rebuild();
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(service.isRevoked("token-" + i));
+        }
+
+        assertEquals(0, store.lookups.get());
+        assertEquals(100.0, checks("bloom_negative"));
+    }
+
+    @Test
+    void shouldConfirmFilterHitsWithStore() {
+        service.rebuild();
+
+        service.revoke("revoked", Instant.now().plusSeconds(60));
+
+        assertTrue(service.isRevoked("revoked"));
+        assertEquals(1, store.lookups.get());
+        assertEquals(1.0, checks("revoked"));
+    }
+
+    @Test
+    void shouldLearnRevocationsFromOtherNodes() {
+        service.rebuild();
+
+        store.revokedElsewhere("remote");
+
+        assertTrue(service.isRevoked("remote"));
+    }
+
+    @Test
+    void shouldLoadRevocationsMadeBeforeStartup() {
+        store.revoked.add("earlier");
+
+        // Before the first rebuild every check goes to the store
+        assertTrue(service.isRevoked("earlier"));
+
+        service.rebuild();
+        assertTrue(service.isRevoked("earlier"));
+        assertFalse(service.isRevoked("other"));
+        assertEquals(2, store.lookups.get());
+    }
+
+    @Test
+    void shouldIgnoreExpiredTokens() {
+        service.rebuild();
+
+        service.revoke("expired", Instant.now().minusSeconds(1));
+
+        assertFalse(service.isRevoked("expired"));
+        assertTrue(store.revoked.isEmpty());
+    }
+
+    @Test
+    void shouldTreatFilterHitAsRevokedWhileStoreIsDown() {
+        service.rebuild();
+        service.revoke("revoked", Instant.now().plusSeconds(60));
+        store.down = true;
+
+        assertTrue(service.isRevoked("revoked"));
+        assertFalse(service.isRevoked("never-revoked"));
+        assertEquals(1.0, checks("unverified"));
+    }
+
+    @Test
+    void shouldFallBackToInMemoryStoreWithoutRedis() {
+        TokenRevocationService local = new TokenRevocationService(
+                new StaticListableBeanFactory().getBeanProvider(RevokedTokenStore.class), 1000, 0.01, registry);
+        local.rebuild();
+
+        local.revoke("revoked", Instant.now().plusSeconds(60));
+
+        assertTrue(local.isRevoked("revoked"));
+        assertFalse(local.isRevoked("other"));
+    }
+
+    private double checks(String result) {
+        return registry.get("auth.revocation.checks").tag("result", result).counter().count();
+    }
+
+    private static class CountingStore implements RevokedTokenStore {
+
+        private final Set<String> revoked = new HashSet<>();
+        private final AtomicInteger lookups = new AtomicInteger();
+        private Consumer<String> listener;
+        private boolean down;
+
+        @Override
+        public void revoke(String tokenId, Duration ttl) {
+            revoked.add(tokenId);
+        }
+
+        @Override
+        public boolean isRevoked(String tokenId) {
+            if (down) {
+                throw new IllegalStateException("store down");
+            }
+            lookups.incrementAndGet();
+            return revoked.contains(tokenId);
+        }
+
+        @Override
+        public void forEachRevoked(Consumer<String> action) {
+            revoked.forEach(action);
+        }
+
+        @Override
+        public void onRevocation(Consumer<String> listener) {
+            this.listener = listener;
+        }
+
+        void revokedElsewhere(String tokenId) {
+            revoked.add(tokenId);
+            listener.accept(tokenId);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.TaskManagementService.security;
+
+import com.example.TaskManagementService.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenVersionCacheTest {
+
+    private TokenVersionCache tokenVersionCache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private int currentVersion;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionCache = new TokenVersionCache(Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void shouldLoadVersionOnce() {
+        assertTrue(tokenVersionCache.isCurrent(7L, 0, this::load));
+        assertTrue(tokenVersionCache.isCurrent(7L, 0, this::load));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldRejectOutdatedVersion() {
+        currentVersion = 2;
+
+        assertFalse(tokenVersionCache.isCurrent(7L, 1, this::load));
+        assertTrue(tokenVersionCache.isCurrent(7L, 2, this::load));
+    }
+
+    @Test
+    void shouldRejectAndNotCacheUnknownUsers() {
+        assertFalse(tokenVersionCache.isCurrent(9L, 0, id -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        tokenVersionCache.isCurrent(9L, 0, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldSeeRevocationAfterUserEntityChanges() {
+        tokenVersionCache.isCurrent(7L, 0, this::load);
+        User user = new User();
+        user.setId(7L);
+        user.revokeTokens();
+        currentVersion = user.getTokenVersion();
+
+        new TokenVersionInvalidator(tokenVersionCache).onUserChanged(user);
+
+        assertFalse(tokenVersionCache.isCurrent(7L, 0, this::load));
+        assertEquals(2, loads.get());
+    }
+
+    private Integer load(Long userId) {
+        loads.incrementAndGet();
+        return currentVersion;
+    }
+}
@@ -9,6 +9,9 @@ import com.example.TaskManagementService.exception.DuplicateResourceException;
 import com.example.TaskManagementService.exception.ResourceNotFoundException;
 import com.example.TaskManagementService.repository.UserRepository;
 import com.example.TaskManagementService.security.JwtUtil;
+import com.example.TaskManagementService.security.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,8 +19,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,6 +45,15 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache usersCache;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -67,7 +84,7 @@ class AuthServiceTest {
         when(userRepository.existsByEmail("newuser@test.com")).thenReturn(false);
         when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtUtil.generateToken("newuser@test.com")).thenReturn(jwtToken);
+        when(jwtUtil.generateToken(argThat(user -> "newuser@test.com".equals(user.getEmail())))).thenReturn(jwtToken);
 
         // When
         AuthResponse response = authService.register(request);
@@ -81,7 +98,7 @@ class AuthServiceTest {
         verify(userRepository, times(1)).existsByEmail("newuser@test.com");
         verify(passwordEncoder, times(1)).encode(rawPassword);
         verify(userRepository, times(1)).save(any(User.class));
-        verify(jwtUtil, times(1)).generateToken(anyString());
+        verify(jwtUtil, times(1)).generateToken(any(User.class));
     }
 
     @Test
@@ -95,7 +112,7 @@ class AuthServiceTest {
         when(userRepository.existsByEmail("newuser@test.com")).thenReturn(false);
         when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtUtil.generateToken(anyString())).thenReturn(jwtToken);
+        when(jwtUtil.generateToken(any(User.class))).thenReturn(jwtToken);
 
         // When
         authService.register(request);
@@ -120,7 +137,7 @@ class AuthServiceTest {
         when(userRepository.existsByEmail("newuser@test.com")).thenReturn(false);
         when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtUtil.generateToken(anyString())).thenReturn(jwtToken);
+        when(jwtUtil.generateToken(any(User.class))).thenReturn(jwtToken);
 
         // When
         authService.register(request);
@@ -168,7 +185,7 @@ class AuthServiceTest {
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtUtil.generateToken(anyString())).thenReturn(jwtToken);
+        when(jwtUtil.generateToken(any(User.class))).thenReturn(jwtToken);
 
         // When
         AuthResponse response = authService.register(request);
@@ -176,7 +193,7 @@ class AuthServiceTest {
         // Then
         assertNotNull(response.getToken());
         assertEquals(jwtToken, response.getToken());
-        verify(jwtUtil, times(1)).generateToken(anyString());
+        verify(jwtUtil, times(1)).generateToken(any(User.class));
     }
 
     @Test
@@ -196,7 +213,7 @@ class AuthServiceTest {
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
-        when(jwtUtil.generateToken("user@test.com")).thenReturn(jwtToken);
+        when(jwtUtil.generateToken(argThat(user -> "user@test.com".equals(user.getEmail())))).thenReturn(jwtToken);
 
         // When
         AuthResponse response = authService.register(request);
@@ -219,7 +236,7 @@ class AuthServiceTest {
 
         when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(testUser));
         when(passwordEncoder.matches(rawPassword, encodedPassword)).thenReturn(true);
-        when(jwtUtil.generateToken("test@test.com")).thenReturn(jwtToken);
+        when(jwtUtil.generateToken(argThat(user -> "test@test.com".equals(user.getEmail())))).thenReturn(jwtToken);
 
         // When
         AuthResponse response = authService.login(request);
@@ -232,7 +249,51 @@ class AuthServiceTest {
 
         verify(userRepository, times(1)).findByEmail("test@test.com");
         verify(passwordEncoder, times(1)).matches(rawPassword, encodedPassword);
-        verify(jwtUtil, times(1)).generateToken("test@test.com");
+        verify(jwtUtil, times(1)).generateToken(argThat(user -> "test@test.com".equals(user.getEmail())));
+    }
+
+    @Test
+    void shouldRehashPasswordStoredAtLowerCostOnLogin() {
+        // Given
+        LoginRequest request = new LoginRequest();
+        request.setEmail("test@test.com");
+        request.setPassword(rawPassword);
+
+        when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(rawPassword, encodedPassword)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(encodedPassword)).thenReturn(true);
+        when(passwordEncoder.encode(rawPassword)).thenReturn("stronger_password_hash");
+        when(cacheManager.getCache("users")).thenReturn(usersCache);
+        when(jwtUtil.generateToken(any(User.class))).thenReturn(jwtToken);
+
+        // When
+        authService.login(request);
+
+        // Then
+        verify(userRepository).updatePassword(1L, "stronger_password_hash");
+        verify(userRepository, never()).save(any(User.class));
+        assertEquals(encodedPassword, testUser.getPassword());
+        verify(usersCache).evict("test@test.com");
+    }
+
+    @Test
+    void shouldNotRehashPasswordAtCurrentCostOnLogin() {
+        // Given
+        LoginRequest request = new LoginRequest();
+        request.setEmail("test@test.com");
+        request.setPassword(rawPassword);
+
+        when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(rawPassword, encodedPassword)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(encodedPassword)).thenReturn(false);
+        when(jwtUtil.generateToken(any(User.class))).thenReturn(jwtToken);
+
+        // When
+        authService.login(request);
+
+        // Then
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).updatePassword(anyLong(), anyString());
     }
 
     @Test
@@ -253,7 +314,7 @@ class AuthServiceTest {
         assertTrue(exception.getMessage().contains("nonexistent@test.com"));
         verify(userRepository, times(1)).findByEmail("nonexistent@test.com");
         verify(passwordEncoder, never()).matches(anyString(), anyString());
-        verify(jwtUtil, never()).generateToken(anyString());
+        verify(jwtUtil, never()).generateToken(any(User.class));
     }
 
     @Test
@@ -275,7 +336,7 @@ class AuthServiceTest {
         assertEquals("Invalid credentials", exception.getMessage());
         verify(userRepository, times(1)).findByEmail("test@test.com");
         verify(passwordEncoder, times(1)).matches("wrongpassword", encodedPassword);
-        verify(jwtUtil, never()).generateToken(anyString());
+        verify(jwtUtil, never()).generateToken(any(User.class));
     }
 
     @Test
@@ -287,7 +348,7 @@ class AuthServiceTest {
 
         when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(testUser));
         when(passwordEncoder.matches(rawPassword, encodedPassword)).thenReturn(true);
-        when(jwtUtil.generateToken("test@test.com")).thenReturn(jwtToken);
+        when(jwtUtil.generateToken(argThat(user -> "test@test.com".equals(user.getEmail())))).thenReturn(jwtToken);
 
         // When
         AuthResponse response = authService.login(request);
@@ -295,7 +356,7 @@ class AuthServiceTest {
         // Then
         assertNotNull(response.getToken());
         assertEquals(jwtToken, response.getToken());
-        verify(jwtUtil, times(1)).generateToken("test@test.com");
+        verify(jwtUtil, times(1)).generateToken(argThat(user -> "test@test.com".equals(user.getEmail())));
     }
 
     @Test
@@ -313,7 +374,7 @@ class AuthServiceTest {
 
         when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches(rawPassword, encodedPassword)).thenReturn(true);
-        when(jwtUtil.generateToken("test@test.com")).thenReturn(jwtToken);
+        when(jwtUtil.generateToken(user)).thenReturn(jwtToken);
 
         // When
         AuthResponse response = authService.login(request);
@@ -333,7 +394,7 @@ class AuthServiceTest {
 
         when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(testUser));
         when(passwordEncoder.matches("mypassword", encodedPassword)).thenReturn(true);
-        when(jwtUtil.generateToken("test@test.com")).thenReturn(jwtToken);
+        when(jwtUtil.generateToken(argThat(user -> "test@test.com".equals(user.getEmail())))).thenReturn(jwtToken);
 
         // When
         authService.login(request);
@@ -355,7 +416,7 @@ class AuthServiceTest {
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtUtil.generateToken(anyString())).thenReturn(jwtToken);
+        when(jwtUtil.generateToken(any(User.class))).thenReturn(jwtToken);
 
         // When
         AuthResponse response = authService.register(request);
@@ -410,7 +471,7 @@ class AuthServiceTest {
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtUtil.generateToken(anyString())).thenReturn(jwtToken);
+        when(jwtUtil.generateToken(any(User.class))).thenReturn(jwtToken);
 
         // When
         authService.register(request);
@@ -459,7 +520,7 @@ class AuthServiceTest {
         when(userRepository.existsByEmail("flow@test.com")).thenReturn(false);
         when(passwordEncoder.encode("securepassword")).thenReturn("encoded_secure_password");
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
-        when(jwtUtil.generateToken("flow@test.com")).thenReturn("generated_token_123");
+        when(jwtUtil.generateToken(argThat(user -> "flow@test.com".equals(user.getEmail())))).thenReturn("generated_token_123");
 
         // When
         AuthResponse response = authService.register(request);
@@ -474,7 +535,7 @@ class AuthServiceTest {
         verify(userRepository).existsByEmail("flow@test.com");
         verify(passwordEncoder).encode("securepassword");
         verify(userRepository).save(any(User.class));
-        verify(jwtUtil).generateToken("flow@test.com");
+        verify(jwtUtil).generateToken(argThat(user -> "flow@test.com".equals(user.getEmail())));
     }
 
     @Test
@@ -492,7 +553,7 @@ class AuthServiceTest {
 
         when(userRepository.findByEmail("flow@test.com")).thenReturn(Optional.of(existingUser));
         when(passwordEncoder.matches("correctpassword", "encoded_correct_password")).thenReturn(true);
-        when(jwtUtil.generateToken("flow@test.com")).thenReturn("login_token_456");
+        when(jwtUtil.generateToken(argThat(user -> "flow@test.com".equals(user.getEmail())))).thenReturn("login_token_456");
 
         // When
         AuthResponse response = authService.login(request);
@@ -506,6 +567,58 @@ class AuthServiceTest {
         // Verify the flow
         verify(userRepository).findByEmail("flow@test.com");
         verify(passwordEncoder).matches("correctpassword", "encoded_correct_password");
-        verify(jwtUtil).generateToken("flow@test.com");
+        verify(jwtUtil).generateToken(argThat(user -> "flow@test.com".equals(user.getEmail())));
+    }
+
+    // ==================== TOKEN REVOCATION TESTS ====================
+
+    @Test
+    void shouldBumpTokenVersionWhenRevokingTokens() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // When
+        authService.revokeTokens(1L, "test@test.com");
+
+        // Then
+        assertEquals(1, testUser.getTokenVersion());
+        verify(userRepository).save(testUser);
+    }
+
+    @Test
+    void shouldThrowWhenRevokingTokensOfUnknownUser() {
+        // Given
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> authService.revokeTokens(99L, "missing@test.com"));
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRevokeOnlyTheGivenTokenOnLogout() {
+        // Given
+        // Whole seconds, as in a real exp claim
+        Date expiresAt = Date.from(Instant.now().plusSeconds(60).truncatedTo(ChronoUnit.SECONDS));
+        Claims claims = Jwts.claims().id("token-id").subject("test@test.com").expiration(expiresAt).build();
+        when(jwtUtil.parseClaims(jwtToken)).thenReturn(claims);
+
+        // When
+        authService.logout(jwtToken);
+
+        // Then
+        verify(tokenRevocationService).revoke("token-id", expiresAt.toInstant());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldRefuseLogoutOfTokenWithoutId() {
+        // Given
+        Claims claims = Jwts.claims().subject("test@test.com").expiration(new Date()).build();
+        when(jwtUtil.parseClaims(jwtToken)).thenReturn(claims);
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> authService.logout(jwtToken));
+        verifyNoInteractions(tokenRevocationService);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package com.example.TaskManagementService.service;
+
+import com.example.TaskManagementService.cache.CacheInvalidationBus;
+import com.example.TaskManagementService.cache.RedisBatchCache;
+import com.example.TaskManagementService.cache.TwoTierCache;
+import com.example.TaskManagementService.exception.BadRequestException;
+import com.example.TaskManagementService.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachePurgeServiceTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private RedisBatchCache redis;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private CachePurgeService purgeService;
+
+    @BeforeEach
+    void setUp() {
+        purgeService = new CachePurgeService(cacheManager, Runnable::run, 2, Duration.ZERO);
+    }
+
+    @Test
+    void shouldPurgeInBatchesAndDropLocalCopies() {
+        when(redis.getName()).thenReturn("search");
+        when(cacheManager.getCache("search")).thenReturn(
+                new TwoTierCache(redis, 100, Duration.ofMinutes(1), invalidationBus));
+        when(redis.purge(eq("project:42@"), eq(2), eq(Duration.ZERO), any())).thenAnswer(invocation -> {
+            RedisBatchCache.PurgeListener listener = invocation.getArgument(3);
+            listener.onBatch(2, 2, List.of("project:42@1:a", "project:42@1:b"));
+            listener.onBatch(3, 3, List.of("project:42@2:a"));
+            return 3L;
+        });
+
+        CachePurgeService.PurgeStatus queued = purgeService.startPurge("search", "project:42@");
+
+        CachePurgeService.PurgeStatus status = purgeService.getStatus(queued.id()).orElseThrow();
+        assertEquals(CachePurgeService.State.COMPLETED, status.state());
+        assertEquals(3, status.scanned());
+        assertEquals(3, status.deleted());
+        assertNotNull(status.finishedAt());
+        verify(invalidationBus).publishEvict("search", List.of("project:42@1:a", "project:42@1:b"));
+        verify(invalidationBus).publishEvict("search", List.of("project:42@2:a"));
+    }
+
+    @Test
+    void shouldReportFailedPurge() {
+        when(cacheManager.getCache("tasks")).thenReturn(redis);
+        when(redis.purge(anyString(), anyInt(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("Unable to connect to Redis"));
+
+        CachePurgeService.PurgeStatus queued = purgeService.startPurge("tasks", "");
+
+        CachePurgeService.PurgeStatus status = purgeService.getStatus(queued.id()).orElseThrow();
+        assertEquals(CachePurgeService.State.FAILED, status.state());
+        assertEquals("Unable to connect to Redis", status.error());
+    }
+
+    @Test
+    void shouldRejectUnknownCache() {
+        when(cacheManager.getCache("unknown")).thenReturn(null);
+
+        assertThrows(ResourceNotFoundException.class, () -> purgeService.startPurge("unknown", "x"));
+    }
+
+    @Test
+    void shouldRejectCacheNotStoredInRedis() {
+        when(cacheManager.getCache("tasks")).thenReturn(new ConcurrentMapCache("tasks"));
+
+        assertThrows(BadRequestException.class, () -> purgeService.startPurge("tasks", "x"));
+    }
+}
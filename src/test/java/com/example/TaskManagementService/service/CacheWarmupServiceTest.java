@@ -0,0 +1,152 @@
+package com.example.TaskManagementService.service;
+
+import com.example.TaskManagementService.entity.Project;
+import com.example.TaskManagementService.entity.User;
+import com.example.TaskManagementService.exception.ResourceNotFoundException;
+import com.example.TaskManagementService.repository.ProjectRepository;
+import com.example.TaskManagementService.repository.TaskRepository;
+import com.example.TaskManagementService.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CacheWarmupService warmupService;
+
+    @BeforeEach
+    void setUp() {
+        warmupService = warmup(true, Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldLoadRecentProjectsTasksAndUsers() {
+        when(projectRepository.findRecentlyUpdated(any(), any()))
+                .thenReturn(List.of(project(1L, "owner@example.com"), project(2L, "owner@example.com")));
+        when(userRepository.findRecentlyUpdatedEmails(any(), any())).thenReturn(List.of("member@example.com"));
+        List<Long> taskIds = LongStream.rangeClosed(1, 150).boxed().toList();
+        when(taskRepository.findRecentIdsByProjectIdIn(eq(List.of(1L, 2L)), any())).thenReturn(taskIds);
+        when(taskService.getTasksByIds(anyList()))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream().map(id -> null).toList());
+
+        warmupService.warmUp();
+
+        verify(projectService).getProjectById(1L, 10L);
+        verify(projectService).getProjectById(2L, 10L);
+        verify(userRepository).findByEmail("owner@example.com");
+        verify(userRepository).findByEmail("member@example.com");
+        verify(projectService).getUserProjects("owner@example.com");
+        verify(projectService).getUserProjects("member@example.com");
+        // Tasks are loaded in batches of 100
+        verify(taskService).getTasksByIds(taskIds.subList(0, 100));
+        verify(taskService).getTasksByIds(taskIds.subList(100, 150));
+
+        assertEquals(CacheWarmupService.State.COMPLETED, warmupService.getDetails().get("state"));
+        assertEquals(2, warmupService.getDetails().get("projects"));
+        assertEquals(150, warmupService.getDetails().get("tasks"));
+        assertEquals(2, warmupService.getDetails().get("users"));
+        assertTrue(warmupService.isFinished());
+    }
+
+    @Test
+    void shouldContinueWhenSingleLoadFails() {
+        when(projectRepository.findRecentlyUpdated(any(), any()))
+                .thenReturn(List.of(project(1L, "owner@example.com"), project(2L, "owner@example.com")));
+        // Both stubbed: loads run in parallel, and strict stubs reject a call with other arguments
+        // that comes before the stubbed one
+        when(projectService.getProjectById(1L, 10L))
+                .thenThrow(new ResourceNotFoundException("Project", "id", 1L));
+        when(projectService.getProjectById(2L, 10L)).thenReturn(null);
+
+        warmupService.warmUp();
+
+        assertEquals(CacheWarmupService.State.COMPLETED, warmupService.getDetails().get("state"));
+        assertEquals(1, warmupService.getDetails().get("projects"));
+        assertEquals(1L, warmupService.getDetails().get("failures"));
+    }
+
+    @Test
+    void shouldGiveUpAfterTimeout() {
+        warmupService = warmup(true, Duration.ofMillis(100));
+        when(projectRepository.findRecentlyUpdated(any(), any()))
+                .thenReturn(List.of(project(1L, "owner@example.com")));
+        when(projectService.getProjectById(1L, 10L)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return null;
+        });
+
+        warmupService.warmUp();
+
+        assertEquals(CacheWarmupService.State.TIMED_OUT, warmupService.getDetails().get("state"));
+        assertTrue(warmupService.isFinished());
+    }
+
+    @Test
+    void shouldReportOutOfServiceUntilWarmupFinishes() {
+        CacheWarmupHealthIndicator indicator = new CacheWarmupHealthIndicator(warmupService);
+
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+
+        warmupService.warmUp();
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals(CacheWarmupService.State.COMPLETED, indicator.health().getDetails().get("state"));
+    }
+
+    @Test
+    void shouldBeReadyImmediatelyWhenDisabled() {
+        warmupService = warmup(false, Duration.ofSeconds(10));
+
+        warmupService.onApplicationStarted();
+
+        assertTrue(warmupService.isFinished());
+        assertEquals(CacheWarmupService.State.DISABLED, warmupService.getDetails().get("state"));
+        verifyNoInteractions(projectRepository, taskRepository, userRepository);
+    }
+
+    private CacheWarmupService warmup(boolean enabled, Duration timeout) {
+        return new CacheWarmupService(projectRepository, taskRepository, userRepository, projectService,
+                taskService, transactionManager, enabled, Duration.ofDays(7), 200, 2000, 500, 4, timeout);
+    }
+
+    private static Project project(Long id, String ownerEmail) {
+        User owner = new User();
+        owner.setId(10L);
+        owner.setEmail(ownerEmail);
+        Project project = new Project();
+        project.setId(id);
+        project.setOwner(owner);
+        return project;
+    }
+}
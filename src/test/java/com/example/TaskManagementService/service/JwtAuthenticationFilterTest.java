@@ -0,0 +1,145 @@
+package com.example.TaskManagementService.service;
+
+import com.example.TaskManagementService.entity.Role;
+import com.example.TaskManagementService.entity.User;
+import com.example.TaskManagementService.repository.UserRepository;
+import com.example.TaskManagementService.security.AuthenticatedUser;
+import com.example.TaskManagementService.security.JwtUtil;
+import com.example.TaskManagementService.security.RevokedTokenStore;
+import com.example.TaskManagementService.security.TokenRevocationService;
+import com.example.TaskManagementService.security.TokenVersionCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "my-very-secure-test-secret-key-which-is-long-enough-123456";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtUtil jwtUtil;
+    private TokenVersionCache tokenVersionCache;
+    private TokenRevocationService tokenRevocationService;
+    private JwtAuthenticationFilter filter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 60_000L);
+        tokenVersionCache = new TokenVersionCache(Duration.ofMinutes(1), 100);
+        tokenRevocationService = new TokenRevocationService(
+                new StaticListableBeanFactory().getBeanProvider(RevokedTokenStore.class), 1000, 0.01, new SimpleMeterRegistry());
+        tokenRevocationService.rebuild();
+        filter = new JwtAuthenticationFilter(jwtUtil, tokenVersionCache, tokenRevocationService, userRepository);
+
+        user = new User();
+        user.setId(5L);
+        user.setEmail("user@test.com");
+        user.setFullName("Test User");
+        user.setRole(Role.USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldBuildPrincipalFromClaimsWithoutUserLookup() throws Exception {
+        when(userRepository.findTokenVersionById(5L)).thenReturn(Optional.of(0));
+        String token = jwtUtil.generateToken(user);
+
+        Authentication first = authenticate(token);
+        Authentication second = authenticate(token);
+
+        assertEquals(new AuthenticatedUser(5L, "user@test.com", "Test User", Role.USER), first.getPrincipal());
+        assertEquals(first.getPrincipal(), second.getPrincipal());
+        // Only the first request loads the token version; the user itself is never loaded
+        verify(userRepository, times(1)).findTokenVersionById(5L);
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void shouldRejectRevokedToken() throws Exception {
+        String token = jwtUtil.generateToken(user);
+        user.revokeTokens();
+        when(userRepository.findTokenVersionById(5L)).thenReturn(Optional.of(user.getTokenVersion()));
+
+        assertNull(authenticate(token));
+        assertNotNull(authenticate(jwtUtil.generateToken(user)));
+    }
+
+    @Test
+    void shouldRejectLoggedOutTokenOnly() throws Exception {
+        when(userRepository.findTokenVersionById(5L)).thenReturn(Optional.of(0));
+        String loggedOut = jwtUtil.generateToken(user);
+        String other = jwtUtil.generateToken(user);
+
+        tokenRevocationService.revoke(jwtUtil.parseClaims(loggedOut).getId(), Instant.now().plusSeconds(60));
+
+        assertNull(authenticate(loggedOut));
+        assertNotNull(authenticate(other));
+    }
+
+    @Test
+    void shouldRejectTokenOfDeletedUser() throws Exception {
+        when(userRepository.findTokenVersionById(5L)).thenReturn(Optional.empty());
+
+        assertNull(authenticate(jwtUtil.generateToken(user)));
+    }
+
+    @Test
+    void shouldRejectTokenWithoutUserClaims() throws Exception {
+        String legacyToken = Jwts.builder()
+                .subject("user@test.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertNull(authenticate(legacyToken));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldIgnoreInvalidToken() throws Exception {
+        assertNull(authenticate("not.a.token"));
+        verifyNoInteractions(userRepository);
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
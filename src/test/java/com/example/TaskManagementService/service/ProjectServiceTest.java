@@ -1,5 +1,7 @@
 package com.example.TaskManagementService.service;
 
+import com.example.TaskManagementService.cache.CacheInvalidator;
+import com.example.TaskManagementService.cache.SearchResultCache;
 import com.example.TaskManagementService.dto.PagedResponse;
 import com.example.TaskManagementService.dto.ProjectRequest;
 import com.example.TaskManagementService.dto.ProjectResponse;
@@ -26,6 +28,8 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -43,6 +47,12 @@ class ProjectServiceTest {
     @Mock
     private WebSocketService webSocketService;
 
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -103,6 +113,7 @@ class ProjectServiceTest {
                 any(ProjectResponse.class),
                 eq("owner@test.com")
         );
+        verify(cacheInvalidator).invalidateTags(List.of("user:owner@test.com"));
     }
 
     @Test
@@ -231,10 +242,9 @@ class ProjectServiceTest {
     void shouldGetProjectById() {
         // Given
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(testUser));
 
         // When
-        ProjectResponse response = projectService.getProjectById(1L, "owner@test.com");
+        ProjectResponse response = projectService.getProjectById(1L, 1L);
 
         // Then
         assertNotNull(response);
@@ -250,7 +260,7 @@ class ProjectServiceTest {
 
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> {
-            projectService.getProjectById(999L, "owner@test.com");
+            projectService.getProjectById(999L, 1L);
         });
     }
 
@@ -258,11 +268,10 @@ class ProjectServiceTest {
     void shouldThrowExceptionWhenUserLacksAccessToProject() {
         // Given
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("unauthorized@test.com")).thenReturn(Optional.of(otherUser));
 
         // When & Then
         assertThrows(UnauthorizedException.class, () -> {
-            projectService.getProjectById(1L, "unauthorized@test.com");
+            projectService.getProjectById(1L, 2L);
         });
     }
 
@@ -270,10 +279,9 @@ class ProjectServiceTest {
     void shouldAllowAccessToProjectOwner() {
         // Given
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(testUser));
 
         // When
-        ProjectResponse response = projectService.getProjectById(1L, "owner@test.com");
+        ProjectResponse response = projectService.getProjectById(1L, 1L);
 
         // Then
         assertNotNull(response);
@@ -286,10 +294,9 @@ class ProjectServiceTest {
         testProject.getMembers().add(otherUser);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("other@test.com")).thenReturn(Optional.of(otherUser));
 
         // When
-        ProjectResponse response = projectService.getProjectById(1L, "other@test.com");
+        ProjectResponse response = projectService.getProjectById(1L, 2L);
 
         // Then
         assertNotNull(response);
@@ -302,7 +309,8 @@ class ProjectServiceTest {
         List<Project> projects = Arrays.asList(testProject);
         Page<Project> projectPage = new PageImpl<>(projects);
 
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(testUser));
+        when(searchResultCache.get(eq("user:owner@test.com"), anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
         when(projectRepository.searchUserProjects(
                 eq(1L),
                 any(),
@@ -312,6 +320,7 @@ class ProjectServiceTest {
 
         // When
         PagedResponse<ProjectResponse> response = projectService.getUserProjectsPaginated(
+                1L,
                 "owner@test.com",
                 ProjectStatus.ACTIVE,
                 "test",
@@ -346,11 +355,10 @@ class ProjectServiceTest {
         updatedProject.setOwner(testUser);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(testUser));
         when(projectRepository.save(any(Project.class))).thenReturn(updatedProject);
 
         // When
-        ProjectResponse response = projectService.updateProject(1L, updateRequest, "owner@test.com");
+        ProjectResponse response = projectService.updateProject(1L, updateRequest, testUser.getId(), "owner@test.com");
 
         // Then
         assertNotNull(response);
@@ -364,6 +372,26 @@ class ProjectServiceTest {
                 any(ProjectResponse.class),
                 eq("owner@test.com")
         );
+        verify(cacheInvalidator).invalidateTags(List.of("user:owner@test.com", "project:1"));
+        verify(searchResultCache).bump(Set.of("user:owner@test.com", "project:1", "project:all"));
+    }
+
+    @Test
+    void shouldKeepCachedTasksWhenOnlyDescriptionChanges() {
+        // Given
+        ProjectRequest updateRequest = new ProjectRequest();
+        updateRequest.setName("Test Project");
+        updateRequest.setDescription("New Description");
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        when(projectRepository.save(any(Project.class))).thenReturn(testProject);
+
+        // When
+        projectService.updateProject(1L, updateRequest, testUser.getId(), "owner@test.com");
+
+        // Then
+        // project-tasks evicts the project entry and lists, but not the task entries
+        verify(cacheInvalidator).invalidateTags(List.of("user:owner@test.com", "project-tasks:1"));
     }
 
     @Test
@@ -379,12 +407,11 @@ class ProjectServiceTest {
         List<User> members = Arrays.asList(member1);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(testUser));
         when(userRepository.findAllById(anyList())).thenReturn(members);
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
 
         // When
-        projectService.updateProject(1L, updateRequest, "owner@test.com");
+        projectService.updateProject(1L, updateRequest, testUser.getId(), "owner@test.com");
 
         // Then
         ArgumentCaptor<Project> projectCaptor = ArgumentCaptor.forClass(Project.class);
@@ -401,11 +428,10 @@ class ProjectServiceTest {
         updateRequest.setName("Unauthorized Update");
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("other@test.com")).thenReturn(Optional.of(otherUser));
 
         // When & Then
         assertThrows(UnauthorizedException.class, () -> {
-            projectService.updateProject(1L, updateRequest, "other@test.com");
+            projectService.updateProject(1L, updateRequest, otherUser.getId(), "other@test.com");
         });
 
         verify(projectRepository, never()).save(any());
@@ -422,7 +448,7 @@ class ProjectServiceTest {
 
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> {
-            projectService.updateProject(999L, updateRequest, "owner@test.com");
+            projectService.updateProject(999L, updateRequest, testUser.getId(), "owner@test.com");
         });
 
         verify(projectRepository, never()).save(any());
@@ -434,13 +460,13 @@ class ProjectServiceTest {
     void shouldDeleteProjectSuccessfully() {
         // Given
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(testUser));
         doNothing().when(projectRepository).delete(testProject);
 
         // When
-        projectService.deleteProject(1L, "owner@test.com");
+        projectService.deleteProject(1L, testUser.getId(), "owner@test.com");
 
         // Then
+        verifyNoInteractions(userRepository);
         verify(projectRepository, times(1)).delete(testProject);
         verify(webSocketService, times(1)).sendProjectUpdateMessage(
                 eq(1L),
@@ -448,17 +474,17 @@ class ProjectServiceTest {
                 any(ProjectResponse.class),
                 eq("owner@test.com")
         );
+        verify(cacheInvalidator).invalidateTags(List.of("project:1"));
     }
 
     @Test
     void shouldThrowExceptionWhenNonOwnerTriesToDelete() {
         // Given
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("other@test.com")).thenReturn(Optional.of(otherUser));
 
         // When & Then
         assertThrows(UnauthorizedException.class, () -> {
-            projectService.deleteProject(1L, "other@test.com");
+            projectService.deleteProject(1L, otherUser.getId(), "other@test.com");
         });
 
         verify(projectRepository, never()).delete(any());
@@ -472,7 +498,7 @@ class ProjectServiceTest {
 
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> {
-            projectService.deleteProject(999L, "owner@test.com");
+            projectService.deleteProject(999L, testUser.getId(), "owner@test.com");
         });
 
         verify(projectRepository, never()).delete(any());
@@ -482,11 +508,10 @@ class ProjectServiceTest {
     void shouldSendWebSocketNotificationBeforeDeleting() {
         // Given
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(testUser));
         doNothing().when(projectRepository).delete(testProject);
 
         // When
-        projectService.deleteProject(1L, "owner@test.com");
+        projectService.deleteProject(1L, testUser.getId(), "owner@test.com");
 
         // Then
         verify(webSocketService, times(1)).sendProjectUpdateMessage(
@@ -506,10 +531,9 @@ class ProjectServiceTest {
         testProject.getMembers().add(otherUser);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(testUser));
 
         // When
-        ProjectResponse response = projectService.getProjectById(1L, "owner@test.com");
+        ProjectResponse response = projectService.getProjectById(1L, 1L);
 
         // Then
         assertEquals(testProject.getId(), response.getId());
@@ -525,10 +549,9 @@ class ProjectServiceTest {
     void shouldHandleProjectWithNoMembers() {
         // Given
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(testUser));
 
         // When
-        ProjectResponse response = projectService.getProjectById(1L, "owner@test.com");
+        ProjectResponse response = projectService.getProjectById(1L, 1L);
 
         // Then
         assertNotNull(response);
@@ -540,10 +563,9 @@ class ProjectServiceTest {
     void shouldHandleProjectWithNoTasks() {
         // Given
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(testUser));
 
         // When
-        ProjectResponse response = projectService.getProjectById(1L, "owner@test.com");
+        ProjectResponse response = projectService.getProjectById(1L, 1L);
 
         // Then
         assertNotNull(response);
@@ -551,15 +573,15 @@ class ProjectServiceTest {
     }
 
     @Test
-    void shouldThrowExceptionWhenUserNotFoundDuringGet() {
+    void shouldDenyAccessToUnknownUserDuringGet() {
         // Given
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(userRepository.findByEmail("nonexistent@test.com")).thenReturn(Optional.empty());
 
         // When & Then
-        assertThrows(ResourceNotFoundException.class, () -> {
-            projectService.getProjectById(1L, "nonexistent@test.com");
+        assertThrows(UnauthorizedException.class, () -> {
+            projectService.getProjectById(1L, 99L);
         });
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -0,0 +1,102 @@
+package com.example.TaskManagementService.service;
+
+import com.example.TaskManagementService.dto.NotificationMessage;
+import com.example.TaskManagementService.dto.TaskDigest;
+import com.example.TaskManagementService.entity.TaskPriority;
+import com.example.TaskManagementService.entity.TaskStatus;
+import com.example.TaskManagementService.repository.TaskStreamRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledJobsServiceTest {
+
+    @Mock
+    private TaskStreamRepository taskStreamRepository;
+
+    @Mock
+    private WebSocketService webSocketService;
+
+    @Mock
+    private TaskService taskService;
+
+    @InjectMocks
+    private ScheduledJobsService scheduledJobsService;
+
+    @Test
+    void shouldRemindAssigneesOfUpcomingDeadlines() {
+        TaskDigest task = digest(1L, TaskStatus.TODO, LocalDateTime.now().plusHours(5));
+        when(taskStreamRepository.streamOpenAssignedTasksDueBetween(any(), any(), any()))
+                .thenAnswer(streaming(task));
+
+        scheduledJobsService.checkUpcomingDeadlines();
+
+        verify(webSocketService).sendUserNotification(eq("dev@test.com"), any(NotificationMessage.class));
+    }
+
+    @Test
+    void shouldNotifyAssigneesOfOverdueTasks() {
+        TaskDigest task = digest(2L, TaskStatus.IN_PROGRESS, LocalDateTime.now().minusHours(3));
+        when(taskStreamRepository.streamOpenAssignedTasksDueBefore(any(), any()))
+                .thenAnswer(streaming(task));
+
+        scheduledJobsService.checkOverdueTasks();
+
+        ArgumentCaptor<NotificationMessage> captor = ArgumentCaptor.forClass(NotificationMessage.class);
+        verify(webSocketService).sendUserNotification(eq("dev@test.com"), captor.capture());
+        assertEquals("ERROR", captor.getValue().getType());
+    }
+
+    @Test
+    void shouldBuildDailyReportFromStreamedTasks() {
+        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+        when(taskStreamRepository.streamAll(any())).thenAnswer(streaming(
+                digest(1L, TaskStatus.COMPLETED, yesterday),
+                digest(2L, TaskStatus.TODO, yesterday),
+                digest(3L, TaskStatus.IN_PROGRESS, null)
+        ));
+
+        scheduledJobsService.generateDailyReport();
+
+        ArgumentCaptor<Object> report = ArgumentCaptor.forClass(Object.class);
+        verify(webSocketService).broadcastMessage(eq("DAILY_REPORT"), report.capture());
+        String text = report.getValue().toString();
+        assertTrue(text.contains("Total Tasks: 3"));
+        assertTrue(text.contains("Pending: 2"));
+        assertTrue(text.contains("Overdue: 1"));
+    }
+
+    @Test
+    void shouldDelegateTombstonePurge() {
+        scheduledJobsService.purgeTaskTombstones();
+
+        verify(taskService).purgeExpiredTombstones();
+    }
+
+    private static TaskDigest digest(Long id, TaskStatus status, LocalDateTime dueDate) {
+        return new TaskDigest(id, "Task " + id, status, TaskPriority.HIGH, dueDate,
+                LocalDateTime.now(), "dev@test.com", "Dev User");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static org.mockito.stubbing.Answer<Long> streaming(TaskDigest... tasks) {
+        return invocation -> {
+            Object[] args = invocation.getArguments();
+            Consumer<TaskDigest> consumer = (Consumer<TaskDigest>) args[args.length - 1];
+            List.of(tasks).forEach(consumer);
+            return (long) tasks.length;
+        };
+    }
+}
@@ -1,17 +1,25 @@
 package com.example.TaskManagementService.service;
 
+import com.example.TaskManagementService.cache.CacheBatchOperations;
+import com.example.TaskManagementService.cache.CacheInvalidator;
+import com.example.TaskManagementService.cache.SearchResultCache;
 import com.example.TaskManagementService.dto.PagedResponse;
+import com.example.TaskManagementService.dto.TaskChangesResponse;
+import com.example.TaskManagementService.dto.TaskDelta;
 import com.example.TaskManagementService.dto.TaskRequest;
 import com.example.TaskManagementService.dto.TaskResponse;
 import com.example.TaskManagementService.entity.*;
+import com.example.TaskManagementService.exception.BadRequestException;
 import com.example.TaskManagementService.exception.ResourceNotFoundException;
 import com.example.TaskManagementService.repository.ProjectRepository;
 import com.example.TaskManagementService.repository.TaskRepository;
+import com.example.TaskManagementService.repository.TaskTombstoneRepository;
 import com.example.TaskManagementService.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -22,7 +30,11 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -43,9 +55,24 @@ class TaskServiceTest {
     @Mock
     private WebSocketService webSocketService;
 
+    @Mock
+    private CacheBatchOperations cacheBatchOperations;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
     @InjectMocks
     private TaskService taskService;
 
+    @Captor
+    private ArgumentCaptor<Map<Long, TaskResponse>> backFill;
+
     private User testUser;
     private User assignee;
     private Project testProject;
@@ -112,6 +139,8 @@ class TaskServiceTest {
 
         verify(taskRepository, times(1)).save(any(Task.class));
         verify(webSocketService, times(1)).sendTaskUpdate(eq(1L), eq("CREATE"), any(TaskResponse.class), eq("creator@test.com"));
+        verify(cacheInvalidator).invalidateTags(List.of("project-tasks:1"));
+        verify(searchResultCache).bump(argThat(scopes -> scopes.contains("project:1") && scopes.contains("project:all")));
     }
 
     @Test
@@ -282,13 +311,15 @@ class TaskServiceTest {
                 any(),
                 any(Pageable.class)
         )).thenReturn(taskPage);
+        when(searchResultCache.get(eq("project:1"), anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
 
         // When
         PagedResponse<TaskResponse> response = taskService.getProjectTasksPaginated(
                 1L,
                 TaskStatus.TODO,
                 TaskPriority.HIGH,
-                "test",
+                "  Test ",
                 0,
                 10,
                 "createdAt",
@@ -302,6 +333,128 @@ class TaskServiceTest {
         assertEquals(1, response.getPageSize());
         assertTrue(response.isFirst());
         assertTrue(response.isLast());
+
+        verify(searchResultCache).get(eq("project:1"),
+                eq("status=TODO&priority=HIGH&search=test&page=0&size=10&sort=createdAt,DESC"), any());
+        verify(taskRepository).searchTasks(eq(1L), eq(TaskStatus.TODO), eq(TaskPriority.HIGH), eq("Test"), any(Pageable.class));
+    }
+
+    @Test
+    void shouldServeCachedSearchPageWithoutQuerying() {
+        // Given
+        PagedResponse<TaskResponse> cachedPage = new PagedResponse<>();
+        when(searchResultCache.get(eq("project:1"), anyString(), any())).thenReturn(cachedPage);
+
+        // When
+        PagedResponse<TaskResponse> response = taskService.getProjectTasksPaginated(
+                1L, null, null, null, 0, 10, "createdAt", "desc");
+
+        // Then
+        assertSame(cachedPage, response);
+        verifyNoInteractions(taskRepository);
+    }
+
+    // ==================== BATCH GET TESTS ====================
+
+    @Test
+    void shouldLoadOnlyCacheMissesAndPreserveRequestOrder() {
+        // Given
+        TaskResponse cachedTask = new TaskResponse();
+        cachedTask.setId(2L);
+        cachedTask.setTitle("Cached Task");
+
+        when(cacheBatchOperations.getAll(eq("tasks"), any(), eq(TaskResponse.class)))
+                .thenReturn(Map.of(2L, cachedTask));
+        when(taskRepository.findAllWithRelationsByIdIn(List.of(1L, 3L)))
+                .thenReturn(List.of(testTask));
+
+        // When
+        List<TaskResponse> responses = taskService.getTasksByIds(Arrays.asList(2L, 1L, 3L, 2L));
+
+        // Then
+        assertEquals(2, responses.size());
+        assertEquals(2L, responses.get(0).getId());
+        assertEquals(1L, responses.get(1).getId());
+
+        verify(cacheBatchOperations).putAll(eq("tasks"), backFill.capture());
+        assertEquals(List.of(1L), List.copyOf(backFill.getValue().keySet()));
+    }
+
+    @Test
+    void shouldSkipDatabaseWhenAllTasksAreCached() {
+        // Given
+        TaskResponse cachedTask = new TaskResponse();
+        cachedTask.setId(1L);
+
+        when(cacheBatchOperations.getAll(eq("tasks"), any(), eq(TaskResponse.class)))
+                .thenReturn(Map.of(1L, cachedTask));
+
+        // When
+        List<TaskResponse> responses = taskService.getTasksByIds(List.of(1L));
+
+        // Then
+        assertEquals(1, responses.size());
+        verify(taskRepository, never()).findAllWithRelationsByIdIn(any());
+        verify(cacheBatchOperations, never()).putAll(anyString(), any());
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() {
+        List<Long> ids = LongStream.rangeClosed(1, TaskService.MAX_BATCH_SIZE + 1)
+                .boxed()
+                .collect(Collectors.toList());
+
+        assertThrows(BadRequestException.class, () -> taskService.getTasksByIds(ids));
+        verifyNoInteractions(taskRepository);
+    }
+
+    // ==================== DELTA SYNC TESTS ====================
+
+    @Test
+    void shouldReturnChangedAndDeletedTasksSinceCursor() {
+        // Given
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        when(taskRepository.findChangedSince(eq(1L), any(LocalDateTime.class))).thenReturn(List.of(testTask));
+        when(taskTombstoneRepository.findByProjectIdAndDeletedAtAfterOrderByDeletedAtAsc(eq(1L), any(LocalDateTime.class)))
+                .thenReturn(List.of(new TaskTombstone(7L, 1L)));
+
+        // When
+        TaskChangesResponse changes = taskService.getProjectTaskChanges(1L, since);
+
+        // Then
+        assertFalse(changes.isFullResync());
+        assertEquals(1, changes.getChanged().size());
+        assertEquals(List.of(7L), changes.getDeletedTaskIds());
+        assertTrue(changes.getSyncedAt().isAfter(since));
+        verify(taskRepository, never()).findByProjectId(anyLong());
+    }
+
+    @Test
+    void shouldReturnFullResyncWithoutCursor() {
+        // Given
+        when(taskRepository.findByProjectId(1L)).thenReturn(List.of(testTask));
+
+        // When
+        TaskChangesResponse changes = taskService.getProjectTaskChanges(1L, null);
+
+        // Then
+        assertTrue(changes.isFullResync());
+        assertEquals(1, changes.getChanged().size());
+        assertTrue(changes.getDeletedTaskIds().isEmpty());
+        verifyNoInteractions(taskTombstoneRepository);
+    }
+
+    @Test
+    void shouldReturnFullResyncWhenCursorIsOlderThanTombstoneRetention() {
+        // Given
+        when(taskRepository.findByProjectId(1L)).thenReturn(List.of(testTask));
+
+        // When
+        TaskChangesResponse changes = taskService.getProjectTaskChanges(1L, LocalDateTime.now().minusDays(30));
+
+        // Then
+        assertTrue(changes.isFullResync());
+        verify(taskRepository, never()).findChangedSince(anyLong(), any());
     }
 
     // ==================== UPDATE TASK TESTS ====================
@@ -326,7 +479,7 @@ class TaskServiceTest {
         updatedTask.setPriority(TaskPriority.URGENT);
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(updatedTask);
 
         // When
         TaskResponse response = taskService.updateTask(1L, updateRequest);
@@ -335,11 +488,10 @@ class TaskServiceTest {
         assertNotNull(response);
         assertEquals("Updated Title", response.getTitle());
 
-        verify(taskRepository, times(1)).save(any(Task.class));
-        verify(webSocketService, times(1)).sendTaskUpdate(
+        verify(taskRepository, times(1)).saveAndFlush(any(Task.class));
+        verify(webSocketService, times(1)).sendTaskDelta(
                 eq(1L),
-                eq("UPDATE"),
-                any(TaskResponse.class),
+                any(TaskDelta.class),
                 eq("system")
         );
     }
@@ -361,7 +513,7 @@ class TaskServiceTest {
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
         when(userRepository.findById(3L)).thenReturn(Optional.of(newAssignee));
-        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(testTask);
 
         // When
         taskService.updateTask(1L, updateRequest);
@@ -393,7 +545,7 @@ class TaskServiceTest {
         updatedTask.setStatus(TaskStatus.COMPLETED);
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(updatedTask);
 
         // When
         taskService.updateTask(1L, updateRequest);
@@ -406,14 +558,64 @@ class TaskServiceTest {
         );
 
         // Should also send WebSocket update for the task
-        verify(webSocketService, times(1)).sendTaskUpdate(
+        verify(webSocketService, times(1)).sendTaskDelta(
                 eq(1L),
-                eq("UPDATE"),
-                any(TaskResponse.class),
+                any(TaskDelta.class),
                 eq("system")
         );
     }
 
+    @Test
+    void shouldSendOnlyChangedFieldsWithVersions() {
+        // Given
+        testTask.setVersion(4L);
+
+        TaskRequest updateRequest = new TaskRequest();
+        updateRequest.setTitle("Test Task");
+        updateRequest.setDescription("Test Description");
+        updateRequest.setProjectId(1L);
+        updateRequest.setStatus(TaskStatus.COMPLETED);
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.saveAndFlush(testTask)).thenAnswer(invocation -> {
+            testTask.setVersion(5L);
+            return testTask;
+        });
+
+        // When
+        TaskResponse response = taskService.updateTask(1L, updateRequest);
+
+        // Then
+        assertEquals(5L, response.getVersion());
+
+        ArgumentCaptor<TaskDelta> delta = ArgumentCaptor.forClass(TaskDelta.class);
+        verify(webSocketService).sendTaskDelta(eq(1L), delta.capture(), eq("system"));
+        assertEquals(1L, delta.getValue().getId());
+        assertEquals(4L, delta.getValue().getPreviousVersion());
+        assertEquals(5L, delta.getValue().getVersion());
+        assertEquals(List.of("status", "updatedAt"), List.copyOf(delta.getValue().getChanges().keySet()));
+        assertEquals(TaskStatus.COMPLETED, delta.getValue().getChanges().get("status"));
+        verify(webSocketService, never()).sendTaskUpdate(anyLong(), anyString(), any(), anyString());
+    }
+
+    @Test
+    void shouldSendNoEventWhenUpdateChangesNothing() {
+        // Given
+        TaskRequest updateRequest = new TaskRequest();
+        updateRequest.setTitle("Test Task");
+        updateRequest.setDescription("Test Description");
+        updateRequest.setProjectId(1L);
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.saveAndFlush(testTask)).thenReturn(testTask);
+
+        // When
+        taskService.updateTask(1L, updateRequest);
+
+        // Then
+        verifyNoInteractions(webSocketService);
+    }
+
     @Test
     void shouldThrowExceptionWhenUpdatingNonExistentTask() {
         // Given
@@ -428,7 +630,7 @@ class TaskServiceTest {
             taskService.updateTask(999L, updateRequest);
         });
 
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -447,7 +649,7 @@ class TaskServiceTest {
             taskService.updateTask(1L, updateRequest);
         });
 
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).saveAndFlush(any());
     }
 
     // ==================== DELETE TASK TESTS ====================
@@ -463,6 +665,13 @@ class TaskServiceTest {
 
         // Then
         verify(taskRepository, times(1)).delete(testTask);
+
+        ArgumentCaptor<TaskTombstone> tombstone = ArgumentCaptor.forClass(TaskTombstone.class);
+        verify(taskTombstoneRepository).save(tombstone.capture());
+        assertEquals(1L, tombstone.getValue().getTaskId());
+        assertEquals(1L, tombstone.getValue().getProjectId());
+        verify(cacheInvalidator).invalidateTags(List.of("project-tasks:1"));
+
         verify(webSocketService, times(1)).sendTaskUpdate(
                 eq(1L),
                 eq("DELETE"),
@@ -549,7 +758,7 @@ class TaskServiceTest {
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
         when(userRepository.findById(2L)).thenReturn(Optional.of(assignee));
-        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(testTask);
 
         // When
         taskService.updateTask(1L, updateRequest);
@@ -557,6 +766,6 @@ class TaskServiceTest {
         // Then
         // Should NOT send assignee notification (assignee didn't change)
         // But should send update notification
-        verify(webSocketService, times(1)).sendTaskUpdate(anyLong(), eq("UPDATE"), any(), anyString());
+        verify(webSocketService, times(1)).sendTaskDelta(anyLong(), any(), anyString());
     }
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package com.example.TaskManagementService.service;
 
 import com.example.TaskManagementService.dto.NotificationMessage;
+import com.example.TaskManagementService.dto.TaskResponse;
 import com.example.TaskManagementService.dto.WebSocketMessage;
+import com.example.TaskManagementService.websocket.ProjectEventCoalescer;
+import com.example.TaskManagementService.websocket.WebSocketRelay;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -122,4 +126,23 @@ class WebSocketServiceTest {
         assertEquals("SYSTEM", message.getUserId());
         assertNull(message.getProjectId());
     }
+
+    @Test
+    void shouldHandTaskEventsToCoalescerKeyedByTask() {
+        WebSocketRelay relay = mock(WebSocketRelay.class);
+        ProjectEventCoalescer coalescer = mock(ProjectEventCoalescer.class);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("projectEventCoalescer", coalescer);
+        webSocketService = new WebSocketService(relay, beans.getBeanProvider(ProjectEventCoalescer.class));
+        TaskResponse task = new TaskResponse();
+        task.setId(5L);
+
+        webSocketService.sendTaskUpdate(2L, "UPDATE", task, "system");
+        webSocketService.broadcastMessage("SYSTEM_ALERT", "BroadcastPayload");
+
+        verify(coalescer).add(eq("/topic/project/2"), eq("TASK:5"), any(WebSocketMessage.class));
+        // Broadcasts are not project events and go out directly
+        verify(relay).send(eq("/topic/broadcast"), any(WebSocketMessage.class));
+        verifyNoMoreInteractions(relay);
+    }
 }
@@ -0,0 +1,134 @@
+package com.example.TaskManagementService.websocket;
+
+import com.example.TaskManagementService.dto.WebSocketMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectEventCoalescerTest {
+
+    private static final String PROJECT_1 = "/topic/project/1";
+    private static final String PROJECT_2 = "/topic/project/2";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+    private ProjectEventCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        coalescer.close();
+    }
+
+    @Test
+    void shouldSendLoneEventUnchanged() throws Exception {
+        coalescer = coalescer(Duration.ofMillis(20), Duration.ofSeconds(1), 100);
+        WebSocketMessage event = event("CREATE", 1);
+
+        coalescer.add(PROJECT_1, "TASK:1", event);
+
+        Sent frame = next();
+        assertEquals(PROJECT_1, frame.destination());
+        assertSame(event, frame.payload());
+    }
+
+    @Test
+    void shouldMergeEventsOfOneProjectIntoOneBatch() throws Exception {
+        coalescer = coalescer(Duration.ofMillis(50), Duration.ofSeconds(1), 100);
+
+        coalescer.add(PROJECT_1, "TASK:1", event("CREATE", 1));
+        coalescer.add(PROJECT_2, "TASK:9", event("CREATE", 9));
+        coalescer.add(PROJECT_1, "TASK:2", event("CREATE", 2));
+        coalescer.add(PROJECT_1, null, event("UPDATE", 3));
+
+        List<Sent> frames = List.of(next(), next());
+        assertNull(sent.poll(100, TimeUnit.MILLISECONDS));
+
+        Sent project1 = frames.stream().filter(f -> f.destination().equals(PROJECT_1)).findFirst().orElseThrow();
+        WebSocketMessage batch = (WebSocketMessage) project1.payload();
+        assertEquals(ProjectEventCoalescer.BATCH, batch.getType());
+        assertEquals(List.of(1, 2, 3), ids(batch));
+
+        assertEquals(4.0, registry.get("websocket.coalescing.events").counter().count());
+        assertEquals(2.0, registry.get("websocket.coalescing.frames").counter().count());
+        assertEquals(2.0, registry.get("websocket.coalescing.compression.ratio").gauge().value());
+    }
+
+    @Test
+    void shouldCollapseRepeatedUpdatesOfOneTask() throws Exception {
+        coalescer = coalescer(Duration.ofMillis(50), Duration.ofSeconds(1), 100);
+
+        coalescer.add(PROJECT_1, "TASK:1", event("CREATE", 1));
+        coalescer.add(PROJECT_1, "TASK:2", event("UPDATE", 2));
+        coalescer.add(PROJECT_1, "TASK:1", event("UPDATE", 1));
+        coalescer.add(PROJECT_1, "TASK:2", event("DELETE", 2));
+
+        WebSocketMessage batch = (WebSocketMessage) next().payload();
+        @SuppressWarnings("unchecked")
+        List<WebSocketMessage> events = (List<WebSocketMessage>) batch.getPayload();
+        assertEquals(2, events.size());
+        assertEquals(List.of("CREATE", "DELETE"), events.stream().map(WebSocketMessage::getAction).toList());
+        assertEquals(List.of(1, 2), ids(batch));
+        assertEquals(4.0, registry.get("websocket.coalescing.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void shouldSendAtOnceWhenBatchIsFull() throws Exception {
+        coalescer = coalescer(Duration.ofSeconds(10), Duration.ofSeconds(10), 3);
+
+        coalescer.add(PROJECT_1, "TASK:1", event("UPDATE", 1));
+        coalescer.add(PROJECT_1, "TASK:2", event("UPDATE", 2));
+        coalescer.add(PROJECT_1, "TASK:3", event("UPDATE", 3));
+
+        Sent frame = sent.poll(1, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        assertEquals(List.of(1, 2, 3), ids((WebSocketMessage) frame.payload()));
+    }
+
+    @Test
+    void shouldNotHoldSteadyStreamBeyondMaxLatency() throws Exception {
+        coalescer = coalescer(Duration.ofMillis(100), Duration.ofMillis(200), 10_000);
+        long start = System.nanoTime();
+
+        // An event every 20 ms keeps restarting the window
+        for (int i = 0; sent.isEmpty() && i < 100; i++) {
+            coalescer.add(PROJECT_1, null, event("UPDATE", i));
+            Thread.sleep(20);
+        }
+
+        assertNotNull(next());
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1000));
+    }
+
+    private ProjectEventCoalescer coalescer(Duration window, Duration maxLatency, int maxBatchSize) {
+        return new ProjectEventCoalescer((destination, payload) -> sent.add(new Sent(destination, payload)),
+                window, maxLatency, maxBatchSize, registry);
+    }
+
+    private Sent next() throws InterruptedException {
+        Sent frame = sent.poll(2, TimeUnit.SECONDS);
+        assertNotNull(frame, "no frame sent");
+        return frame;
+    }
+
+    private static WebSocketMessage event(String action, int taskId) {
+        return new WebSocketMessage("TASK", action, taskId, "user@test.com", 1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Integer> ids(WebSocketMessage batch) {
+        return ((List<WebSocketMessage>) batch.getPayload()).stream()
+                .map(event -> (Integer) event.getPayload())
+                .toList();
+    }
+
+    private record Sent(String destination, Object payload) {
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.TaskManagementService.websocket;
+
+import com.example.TaskManagementService.config.WebSocketRelayConfig;
+import com.example.TaskManagementService.dto.NotificationMessage;
+import com.example.TaskManagementService.service.WebSocketService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two application contexts, standing in for two nodes, relaying WebSocket messages
+ * through one Redis.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisWebSocketRelayClusterTest {
+
+    @Container
+    static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeEach
+    void startNodes() throws Exception {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+        awaitSubscriptions();
+    }
+
+    @AfterEach
+    void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void shouldDeliverProjectUpdateToClientsOfEveryNode() throws Exception {
+        service(nodeA).sendTaskUpdate(1L, "CREATE", "task-1", "user@test.com");
+
+        for (AnnotationConfigApplicationContext node : List.of(nodeA, nodeB)) {
+            Message<?> message = next(node);
+            assertNotNull(message);
+            assertEquals("/topic/project/1", SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+            JsonNode payload = (JsonNode) message.getPayload();
+            assertEquals("CREATE", payload.get("action").asText());
+            assertEquals("task-1", payload.get("payload").asText());
+        }
+    }
+
+    @Test
+    void shouldDeliverUserNotificationSentOnOtherNode() throws Exception {
+        NotificationMessage notification = new NotificationMessage();
+        notification.setTitle("Task assigned");
+
+        service(nodeB).sendUserNotification("user@test.com", notification);
+
+        Message<?> message = next(nodeA);
+        assertNotNull(message);
+        assertEquals("/queue/notifications/user@test.com",
+                SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        assertEquals("Task assigned", ((JsonNode) message.getPayload()).get("title").asText());
+    }
+
+    @Test
+    void shouldShowEveryNodeTheSameOrderOfProjectEvents() throws Exception {
+        CompletableFuture<Void> fromA = CompletableFuture.runAsync(() -> sendSequence(nodeA, 0));
+        CompletableFuture<Void> fromB = CompletableFuture.runAsync(() -> sendSequence(nodeB, 1000));
+        CompletableFuture.allOf(fromA, fromB).get(10, TimeUnit.SECONDS);
+
+        List<Integer> seenByA = receive(nodeA, 200);
+        List<Integer> seenByB = receive(nodeB, 200);
+
+        assertEquals(seenByA, seenByB);
+        // Each sender's own events arrive in the order it sent them
+        assertEquals(seenByA.stream().filter(i -> i < 1000).sorted().toList(),
+                seenByA.stream().filter(i -> i < 1000).toList());
+        assertEquals(seenByA.stream().filter(i -> i >= 1000).sorted().toList(),
+                seenByA.stream().filter(i -> i >= 1000).toList());
+    }
+
+    private static void sendSequence(AnnotationConfigApplicationContext node, int offset) {
+        for (int i = 0; i < 100; i++) {
+            service(node).sendTaskUpdate(7L, "UPDATE", offset + i, "user@test.com");
+        }
+    }
+
+    private static List<Integer> receive(AnnotationConfigApplicationContext node, int count) throws Exception {
+        List<Integer> sequence = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Message<?> message = next(node);
+            assertNotNull(message, "received only " + sequence.size() + " of " + count);
+            sequence.add(((JsonNode) message.getPayload()).get("payload").asInt());
+        }
+        return sequence;
+    }
+
+    // Skips any late ping left over from awaitSubscriptions
+    private static Message<?> next(AnnotationConfigApplicationContext node) throws InterruptedException {
+        Message<?> message;
+        do {
+            message = clients(node).poll(5, TimeUnit.SECONDS);
+        } while (message != null
+                && "/topic/broadcast".equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders())));
+        return message;
+    }
+
+    // Subscriptions are established asynchronously; broadcast until both nodes hear it
+    private void awaitSubscriptions() throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        boolean ready = false;
+        while (!ready && System.nanoTime() < deadline) {
+            service(nodeA).broadcastMessage("PING", "ping");
+            Thread.sleep(50);
+            ready = !clients(nodeA).isEmpty() && !clients(nodeB).isEmpty();
+        }
+        assertTrue(ready, "nodes did not subscribe in time");
+        clients(nodeA).clear();
+        clients(nodeB).clear();
+    }
+
+    private static AnnotationConfigApplicationContext startNode(String name) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.setDisplayName(name);
+        TestPropertyValues.of(
+                "websocket.relay.mode=redis",
+                "test.redis.host=" + REDIS.getHost(),
+                "test.redis.port=" + REDIS.getMappedPort(6379)
+        ).applyTo(context);
+        context.register(NodeConfig.class, WebSocketRelayConfig.class, WebSocketService.class);
+        context.refresh();
+        return context;
+    }
+
+    private static WebSocketService service(AnnotationConfigApplicationContext node) {
+        return node.getBean(WebSocketService.class);
+    }
+
+    private static BlockingQueue<Message<?>> clients(AnnotationConfigApplicationContext node) {
+        return node.getBean(RecordingChannel.class).messages;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class NodeConfig {
+
+        @Bean
+        LettuceConnectionFactory redisConnectionFactory(@Value("${test.redis.host}") String host,
+                                                        @Value("${test.redis.port}") int port) {
+            return new LettuceConnectionFactory(host, port);
+        }
+
+        @Bean
+        StringRedisTemplate stringRedisTemplate(LettuceConnectionFactory connectionFactory) {
+            return new StringRedisTemplate(connectionFactory);
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+
+        // Stands in for the node's broker: what its connected clients would receive
+        @Bean
+        RecordingChannel clientChannel() {
+            return new RecordingChannel();
+        }
+
+        @Bean
+        SimpMessagingTemplate messagingTemplate(RecordingChannel clientChannel) {
+            return new SimpMessagingTemplate(clientChannel);
+        }
+    }
+
+    static class RecordingChannel implements MessageChannel {
+
+        final BlockingQueue<Message<?>> messages = new LinkedBlockingQueue<>();
+
+        @Override
+        public boolean send(Message<?> message, long timeout) {
+            messages.add(message);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.TaskManagementService.websocket;
+
+import com.example.TaskManagementService.BaseIntegrationTest;
+import com.example.TaskManagementService.dto.NotificationMessage;
+import com.example.TaskManagementService.service.WebSocketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Broker relay mode end to end: a STOMP client connected to the application receives
+ * events that travel through the embedded Artemis broker.
+ */
+class StompBrokerRelayTest extends BaseIntegrationTest {
+
+    private static final int BROKER_PORT = freePort();
+
+    @DynamicPropertySource
+    static void brokerProps(DynamicPropertyRegistry registry) {
+        registry.add("websocket.broker.mode", () -> "relay");
+        registry.add("websocket.broker.embedded.enabled", () -> "true");
+        registry.add("websocket.broker.relay.host", () -> "127.0.0.1");
+        registry.add("websocket.broker.relay.port", () -> BROKER_PORT);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WebSocketService webSocketService;
+
+    private WebSocketStompClient stompClient;
+    private StompSession session;
+
+    @BeforeEach
+    void connect() throws Exception {
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+        session = stompClient.connectAsync("ws://localhost:" + port + "/ws/websocket", new StompSessionHandlerAdapter() {
+                })
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void disconnect() {
+        session.disconnect();
+        stompClient.stop();
+    }
+
+    @Test
+    void shouldDeliverProjectUpdateThroughBroker() throws Exception {
+        BlockingQueue<String> received = subscribe("/topic/project/42");
+
+        String message = publishUntilReceived(received,
+                () -> webSocketService.sendTaskUpdate(42L, "CREATE", "relayed-task", "user@test.com"));
+
+        assertTrue(message.contains("relayed-task"));
+        assertTrue(message.contains("\"projectId\":42"));
+    }
+
+    @Test
+    void shouldDeliverUserNotificationThroughBroker() throws Exception {
+        BlockingQueue<String> received = subscribe("/queue/notifications/relay@test.com");
+        NotificationMessage notification = new NotificationMessage("Task assigned", "Relayed", "INFO", "relay@test.com");
+
+        String message = publishUntilReceived(received,
+                () -> webSocketService.sendUserNotification("relay@test.com", notification));
+
+        assertTrue(message.contains("Task assigned"));
+    }
+
+    private BlockingQueue<String> subscribe(String destination) {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return String.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((String) payload);
+            }
+        });
+        return received;
+    }
+
+    // The subscription reaches the broker asynchronously; messages sent before that are not queued for us
+    private static String publishUntilReceived(BlockingQueue<String> received, Runnable publish) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            publish.run();
+            String message = received.poll(200, TimeUnit.MILLISECONDS);
+            if (message != null) {
+                return message;
+            }
+        }
+        return fail("no message received through the broker relay");
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
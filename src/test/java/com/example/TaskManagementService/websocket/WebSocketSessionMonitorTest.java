@@ -0,0 +1,113 @@
+package com.example.TaskManagementService.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WebSocketSessionMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final WebSocketSessionMonitor monitor = new WebSocketSessionMonitor(registry);
+
+    @Test
+    void shouldTrackOpenSessionsAndCloseReasons() throws Exception {
+        WebSocketHandler handler = monitor.decorate(mock(WebSocketHandler.class));
+        WebSocketSession slow = session("slow");
+        WebSocketSession leaving = session("leaving");
+
+        handler.afterConnectionEstablished(slow);
+        handler.afterConnectionEstablished(leaving);
+        assertEquals(2.0, registry.get("websocket.sessions.active").gauge().value());
+
+        handler.afterConnectionClosed(slow, CloseStatus.SESSION_NOT_RELIABLE);
+        handler.afterConnectionClosed(leaving, CloseStatus.NORMAL);
+
+        assertEquals(0, monitor.activeSessions());
+        assertEquals(1.0, registry.get("websocket.sessions.closed").tag("reason", "not_reliable").counter().count());
+        assertEquals(1.0, registry.get("websocket.sessions.closed").tag("reason", "normal").counter().count());
+    }
+
+    @Test
+    void shouldCountMessagesForClosedSessionsAsDropped() throws Exception {
+        WebSocketHandler handler = monitor.decorate(mock(WebSocketHandler.class));
+        WebSocketSession session = session("s1");
+        handler.afterConnectionEstablished(session);
+        MessageChannel channel = mock(MessageChannel.class);
+
+        monitor.outboundInterceptor().preSend(messageTo("s1"), channel);
+        handler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+        monitor.outboundInterceptor().preSend(messageTo("s1"), channel);
+
+        assertEquals(1.0, registry.get("websocket.messages.dropped")
+                .tag("channel", "outbound").tag("reason", "session_closed").counter().count());
+    }
+
+    @Test
+    void shouldCountRejectionsWhenChannelQueueIsFull() throws Exception {
+        assertRejectsAndCountsWhenQueueIsFull(new ThreadPoolTaskExecutor());
+    }
+
+    @Test
+    void shouldKeepQueueBoundedWithVirtualThreads() throws Exception {
+        // Virtual threads only change what runs the tasks; pool size and queue capacity still apply
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadFactory(Thread.ofVirtual().name("ws-outbound-", 0).factory());
+
+        assertRejectsAndCountsWhenQueueIsFull(executor);
+    }
+
+    private void assertRejectsAndCountsWhenQueueIsFull(ThreadPoolTaskExecutor executor) {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        monitor.monitor("outbound", executor);
+        executor.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> await(release));
+            executor.execute(() -> await(release));
+
+            assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+            assertEquals(1.0, registry.get("websocket.channel.queue.depth").tag("channel", "outbound").gauge().value());
+            assertEquals(1.0, registry.get("websocket.messages.dropped")
+                    .tag("channel", "outbound").tag("reason", "queue_full").counter().count());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static WebSocketSession session(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        return session;
+    }
+
+    private static Message<byte[]> messageTo(String sessionId) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}